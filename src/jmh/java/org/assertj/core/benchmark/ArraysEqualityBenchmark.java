@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.util.Objects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link Objects#areEqual(Object, Object)} on arrays, up to 100 MB per array.
+ * <p>
+ * Run the large sizes with enough heap, e.g. {@code -Djmh.args="ArraysEqualityBenchmark -jvmArgs -Xmx2g"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArraysEqualityBenchmark {
+
+  @Param({ "int", "double", "byte", "Object" })
+  private String componentType;
+
+  @Param({ "1024", "104857600" })
+  private int bytes;
+
+  private Object array;
+  private Object copy;
+
+  @Setup
+  public void setUp() {
+    switch (componentType) {
+    case "int":
+      int[] ints = new int[bytes / Integer.BYTES];
+      for (int i = 0; i < ints.length; i++) ints[i] = i;
+      array = ints;
+      copy = ints.clone();
+      break;
+    case "double":
+      double[] doubles = new double[bytes / Double.BYTES];
+      for (int i = 0; i < doubles.length; i++) doubles[i] = i / 3.0;
+      array = doubles;
+      copy = doubles.clone();
+      break;
+    case "byte":
+      byte[] bytesArray = new byte[bytes];
+      for (int i = 0; i < bytesArray.length; i++) bytesArray[i] = (byte) i;
+      array = bytesArray;
+      copy = bytesArray.clone();
+      break;
+    default:
+      // references only: the elements are shared so that the array itself takes the requested size
+      Object[] objects = new Object[bytes / Integer.BYTES];
+      String[] values = { "a", "b", "c", "d" };
+      for (int i = 0; i < objects.length; i++) objects[i] = values[i % values.length];
+      array = objects;
+      copy = objects.clone();
+    }
+  }
+
+  @Benchmark
+  public boolean areEqual() {
+    return Objects.areEqual(array, copy);
+  }
+
+}
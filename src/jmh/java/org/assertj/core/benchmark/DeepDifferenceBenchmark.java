@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.benchmark.Person.personWithFriends;
+import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.internal.DeepDifference;
+import org.assertj.core.internal.DeepDifference.Difference;
+import org.assertj.core.internal.TypeComparators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the recursive field by field comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeepDifferenceBenchmark {
+
+  @Param({ "10", "1000" })
+  private int numberOfFriends;
+
+  private Person actual;
+  private Person equalPerson;
+  private Person differentPerson;
+  private TypeComparators typeComparators;
+
+  @Setup
+  public void setUp() {
+    actual = personWithFriends(numberOfFriends);
+    equalPerson = personWithFriends(numberOfFriends);
+    differentPerson = personWithFriends(numberOfFriends);
+    differentPerson.getFriends().add(new Person("Sam", 35, new Person.Address("Bagshot Row", "Hobbiton")));
+    typeComparators = defaultTypeComparators();
+  }
+
+  @Benchmark
+  public List<Difference> equalObjectGraphs() {
+    return DeepDifference.determineDifferences(actual, equalPerson, emptyMap(), typeComparators);
+  }
+
+  @Benchmark
+  public List<Difference> differentObjectGraphs() {
+    return DeepDifference.determineDifferences(actual, differentPerson, emptyMap(), typeComparators);
+  }
+
+}
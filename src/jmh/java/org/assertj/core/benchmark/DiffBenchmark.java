@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.Diff;
+import org.assertj.core.util.diff.Delta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the text and binary diffs used by the file, path and input stream assertions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiffBenchmark {
+
+  @Param({ "100", "10000" })
+  private int lines;
+
+  private final Diff diff = new Diff();
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+  private byte[] text;
+  private byte[] textWithChangedLine;
+
+  @Setup
+  public void setUp() {
+    StringBuilder textBuilder = new StringBuilder();
+    for (int i = 0; i < lines; i++) {
+      textBuilder.append("line ").append(i).append('\n');
+    }
+    text = textBuilder.toString().getBytes(UTF_8);
+    int middleLine = textBuilder.indexOf("line " + lines / 2 + "\n");
+    textBuilder.replace(middleLine, middleLine + 4, "LINE");
+    textWithChangedLine = textBuilder.toString().getBytes(UTF_8);
+  }
+
+  @Benchmark
+  public List<Delta<String>> diffOfSameTexts() throws IOException {
+    return diff.diff(new ByteArrayInputStream(text), new ByteArrayInputStream(text));
+  }
+
+  @Benchmark
+  public List<Delta<String>> diffOfTextsWithChangedLine() throws IOException {
+    return diff.diff(new ByteArrayInputStream(text), new ByteArrayInputStream(textWithChangedLine));
+  }
+
+  @Benchmark
+  public BinaryDiffResult binaryDiffOfSameContents() throws IOException {
+    return binaryDiff.diff(new ByteArrayInputStream(text), new ByteArrayInputStream(text));
+  }
+
+  @Benchmark
+  public BinaryDiffResult binaryDiffOfContentsWithChangedByte() throws IOException {
+    return binaryDiff.diff(new ByteArrayInputStream(text), new ByteArrayInputStream(textWithChangedLine));
+  }
+
+}
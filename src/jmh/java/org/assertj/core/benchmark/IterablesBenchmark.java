@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.ListAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@code Iterable} assertions comparing actual elements to many expected ones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IterablesBenchmark {
+
+  @Param({ "10", "1000", "10000" })
+  private int size;
+
+  private List<String> actual;
+  private String[] shuffledValues;
+
+  @Setup
+  public void setUp() {
+    actual = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      actual.add("element-" + i);
+    }
+    List<String> shuffled = new ArrayList<>(actual);
+    Collections.shuffle(shuffled, new Random(42));
+    shuffledValues = shuffled.toArray(new String[size]);
+  }
+
+  @Benchmark
+  public ListAssert<String> containsOnly() {
+    return assertThat(actual).containsOnly(shuffledValues);
+  }
+
+  @Benchmark
+  public ListAssert<String> containsExactlyInAnyOrder() {
+    return assertThat(actual).containsExactlyInAnyOrder(shuffledValues);
+  }
+
+  @Benchmark
+  public ListAssert<String> doesNotHaveDuplicates() {
+    return assertThat(actual).doesNotHaveDuplicates();
+  }
+
+  @Benchmark
+  public ListAssert<String> containsExactly() {
+    return assertThat(actual).containsExactlyElementsOf(actual);
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Object graph used by the recursive comparison and property extraction benchmarks.
+ */
+public class Person {
+
+  private final String name;
+  private final int age;
+  private final Address address;
+  private final List<Person> friends = new ArrayList<>();
+  // no getter, it is read as a field
+  private final String nickname;
+
+  public Person(String name, int age, Address address) {
+    this.name = name;
+    this.age = age;
+    this.address = address;
+    this.nickname = name.toLowerCase();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getAge() {
+    return age;
+  }
+
+  public Address getAddress() {
+    return address;
+  }
+
+  public List<Person> getFriends() {
+    return friends;
+  }
+
+  /**
+   * Builds a person having the given number of friends, each friend having its own address.
+   */
+  public static Person personWithFriends(int numberOfFriends) {
+    Person person = new Person("Frodo", 33, new Address("Bag End", "Hobbiton"));
+    for (int i = 0; i < numberOfFriends; i++) {
+      person.friends.add(new Person("friend-" + i, i, new Address("street-" + i, "city-" + i)));
+    }
+    return person;
+  }
+
+  public static class Address {
+
+    private final String street;
+    private final String city;
+
+    public Address(String street, String city) {
+      this.street = street;
+      this.city = city;
+    }
+
+    public String getStreet() {
+      return street;
+    }
+
+    public String getCity() {
+      return city;
+    }
+  }
+
+}
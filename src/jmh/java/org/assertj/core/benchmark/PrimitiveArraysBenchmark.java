@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.AbstractDoubleArrayAssert;
+import org.assertj.core.api.AbstractIntArrayAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the primitive array assertions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveArraysBenchmark {
+
+  @Param({ "10", "1000", "10000" })
+  private int size;
+
+  private int[] ints;
+  private int[] reversedInts;
+  private int[] sequence;
+  private double[] doubles;
+
+  @Setup
+  public void setUp() {
+    ints = new int[size];
+    reversedInts = new int[size];
+    doubles = new double[size];
+    for (int i = 0; i < size; i++) {
+      ints[i] = i;
+      reversedInts[size - 1 - i] = i;
+      doubles[i] = i / 3.0;
+    }
+    sequence = new int[] { size - 3, size - 2, size - 1 };
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> contains() {
+    return assertThat(ints).contains(size - 1);
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> containsOnly() {
+    return assertThat(ints).containsOnly(reversedInts);
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> containsExactly() {
+    return assertThat(ints).containsExactly(ints.clone());
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> containsSequence() {
+    return assertThat(ints).containsSequence(sequence);
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> doesNotHaveDuplicates() {
+    return assertThat(ints).doesNotHaveDuplicates();
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> isSorted() {
+    return assertThat(ints).isSorted();
+  }
+
+  @Benchmark
+  public AbstractDoubleArrayAssert<?> isEqualToDoubleArray() {
+    return assertThat(doubles).isEqualTo(doubles.clone());
+  }
+
+}
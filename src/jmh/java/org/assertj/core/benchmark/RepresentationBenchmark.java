@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.presentation.BinaryRepresentation.BINARY_REPRESENTATION;
+import static org.assertj.core.presentation.HexadecimalRepresentation.HEXA_REPRESENTATION;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.presentation.UnicodeRepresentation.UNICODE_REPRESENTATION;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.error.MessageFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the formatting of values in error messages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepresentationBenchmark {
+
+  @Param({ "10", "1000" })
+  private int size;
+
+  private List<String> list;
+  private Map<String, Integer> map;
+  private int[] ints;
+  private byte[] bytes;
+  private Object[][] nestedArrays;
+  private String text;
+
+  @Setup
+  public void setUp() {
+    list = new ArrayList<>(size);
+    map = new LinkedHashMap<>();
+    ints = new int[size];
+    bytes = new byte[size];
+    nestedArrays = new Object[size][];
+    StringBuilder textBuilder = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      list.add("element-" + i);
+      map.put("key-" + i, i);
+      ints[i] = i;
+      bytes[i] = (byte) i;
+      nestedArrays[i] = new Object[] { "element-" + i, i };
+      textBuilder.append("\u00e9l\u00e9ment-").append(i);
+    }
+    text = textBuilder.toString();
+  }
+
+  @Benchmark
+  public String list() {
+    return STANDARD_REPRESENTATION.toStringOf(list);
+  }
+
+  @Benchmark
+  public String map() {
+    return STANDARD_REPRESENTATION.toStringOf(map);
+  }
+
+  @Benchmark
+  public String intArray() {
+    return STANDARD_REPRESENTATION.toStringOf(ints);
+  }
+
+  @Benchmark
+  public String nestedArrays() {
+    return STANDARD_REPRESENTATION.toStringOf(nestedArrays);
+  }
+
+  @Benchmark
+  public boolean appendListWithinBudget() {
+    return STANDARD_REPRESENTATION.appendTo(new StringBuilder(), list, 100);
+  }
+
+  @Benchmark
+  public String hexadecimalBytes() {
+    return HEXA_REPRESENTATION.toStringOf(bytes);
+  }
+
+  @Benchmark
+  public String binaryBytes() {
+    return BINARY_REPRESENTATION.toStringOf(bytes);
+  }
+
+  @Benchmark
+  public String unicodeString() {
+    return UNICODE_REPRESENTATION.toStringOf(text);
+  }
+
+  @Benchmark
+  public String errorMessage() {
+    return MessageFormatter.instance().format(new TextDescription("benchmark"), STANDARD_REPRESENTATION,
+                                              "%nExpecting:%n  <%s>%nto contain:%n  <%s>%n", list, ints);
+  }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.ReusableAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of passing assertions created with {@code Assertions} compared to the ones recycled by
+ * {@link ReusableAssertions}, run with {@code -prof gc} to compare the bytes allocated per assertion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReusableAssertionsBenchmark {
+
+  private ReusableAssertions reusable;
+  private int value = 42;
+  private String string = "Yoda the Jedi master";
+
+  @Setup
+  public void setUp() {
+    reusable = ReusableAssertions.forCurrentThread();
+  }
+
+  @Benchmark
+  public Object newIntAssertion() {
+    return assertThat(value).isPositive().isLessThan(100);
+  }
+
+  @Benchmark
+  public Object reusableIntAssertion() {
+    return reusable.assertThat(value).isPositive().isLessThan(100);
+  }
+
+  @Benchmark
+  public Object newStringAssertion() {
+    return assertThat(string).startsWith("Yoda");
+  }
+
+  @Benchmark
+  public Object reusableStringAssertion() {
+    return reusable.assertThat(string).startsWith("Yoda");
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of suites of soft assertions, either all passing or all failing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SoftAssertionsBenchmark {
+
+  @Param({ "10", "100" })
+  private int assertions;
+
+  private List<String> list;
+
+  @Setup
+  public void setUp() {
+    list = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      list.add("element-" + i);
+    }
+  }
+
+  @Benchmark
+  public List<Throwable> passingSoftAssertions() {
+    SoftAssertions softly = new SoftAssertions();
+    for (int i = 0; i < assertions; i++) {
+      softly.assertThat(i).isEqualTo(i);
+      softly.assertThat("element-" + i).startsWith("element");
+      softly.assertThat(list).contains("element-" + i);
+    }
+    return softly.errorsCollected();
+  }
+
+  @Benchmark
+  public List<Throwable> failingSoftAssertions() {
+    return failingSoftly().errorsCollected();
+  }
+
+  @Benchmark
+  public String failingSoftAssertionsReported() {
+    try {
+      failingSoftly().assertAll();
+      return null;
+    } catch (AssertionError e) {
+      return e.getMessage();
+    }
+  }
+
+  private SoftAssertions failingSoftly() {
+    SoftAssertions softly = new SoftAssertions();
+    for (int i = 0; i < assertions; i++) {
+      softly.assertThat(i).isEqualTo(i + 1);
+      softly.assertThat("element-" + i).startsWith("other");
+      softly.assertThat(list).contains("other-" + i);
+    }
+    return softly;
+  }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the time to the first assertion of a JVM, each fork measures a single invocation on a JVM that has not
+ * used AssertJ yet. Run it with {@code -prof cl} to also get the number of classes loaded by that invocation, e.g.
+ * {@code ./mvnw -Pjmh -DskipTests test -Djmh.args="StartupBenchmark -prof cl"}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+  @Benchmark
+  public Object firstPassingAssertion() {
+    return assertThat("AssertJ").startsWith("Assert");
+  }
+
+  @Benchmark
+  public Object firstFailingAssertion() {
+    try {
+      assertThat("AssertJ").startsWith("JUnit");
+      return null;
+    } catch (AssertionError e) {
+      return e.getMessage();
+    }
+  }
+
+  @Benchmark
+  public Object firstSoftAssertion() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat("AssertJ").startsWith("Assert");
+    return softly.errorsCollected();
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.AbstractCharSequenceAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the assertions searching values in a {@code String}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringsBenchmark {
+
+  @Param({ "100", "100000" })
+  private int length;
+
+  private String actual;
+  private String lastWord;
+
+  @Setup
+  public void setUp() {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; builder.length() < length; i++) {
+      builder.append("word").append(i).append(' ');
+    }
+    actual = builder.toString();
+    lastWord = actual.substring(actual.lastIndexOf(' ', actual.length() - 2) + 1).trim();
+  }
+
+  @Benchmark
+  public AbstractCharSequenceAssert<?, String> contains() {
+    return assertThat(actual).contains(lastWord);
+  }
+
+  @Benchmark
+  public AbstractCharSequenceAssert<?, String> containsIgnoringCase() {
+    return assertThat(actual).containsIgnoringCase(lastWord.toUpperCase());
+  }
+
+  @Benchmark
+  public AbstractCharSequenceAssert<?, String> containsSequence() {
+    return assertThat(actual).containsSequence("word0", "word1", lastWord);
+  }
+
+  @Benchmark
+  public AbstractCharSequenceAssert<?, String> containsOnlyOnce() {
+    return assertThat(actual).containsOnlyOnce(lastWord + " ");
+  }
+
+  @Benchmark
+  public AbstractCharSequenceAssert<?, String> doesNotContain() {
+    return assertThat(actual).doesNotContain("absent");
+  }
+
+  @Benchmark
+  public AbstractCharSequenceAssert<?, String> containsPattern() {
+    return assertThat(actual).containsPattern(lastWord + "\\s$");
+  }
+
+}
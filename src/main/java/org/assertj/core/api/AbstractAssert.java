@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.description.Description;
 import org.assertj.core.error.BasicErrorMessageFactory;
 import org.assertj.core.error.ErrorMessageFactory;
@@ -64,13 +65,17 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   @VisibleForTesting
   public final WritableAssertionInfo info;
 
-  // visibility is protected to allow us write custom assertions that need access to actual
+  /**
+   * The value under test, its visibility is protected to allow us write custom assertions that need access to actual.
+   * <p>
+   * <b>Subclasses must never assign it.</b> It is not final only to let {@link ReusableAssertions} recycle assertions
+   * (this is done within AssertJ by resetting the whole assertion state), assigning it elsewhere leaves the assertion
+   * checking a value its description, representation and comparison strategy were not set up for.
+   */
   @VisibleForTesting
-  protected final ACTUAL actual;
+  protected ACTUAL actual;
   protected final SELF myself;
 
-  private static Representation customRepresentation = null;
-
   // we prefer not to use Class<? extends S> selfType because it would force inherited
   // constructor to cast with a compiler warning
   // let's keep compiler warning internal (when we can) and not expose them to our end users.
@@ -78,7 +83,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   public AbstractAssert(ACTUAL actual, Class<?> selfType) {
     myself = (SELF) selfType.cast(this);
     this.actual = actual;
-    info = new WritableAssertionInfo(customRepresentation);
+    info = new WritableAssertionInfo(Configuration.current().customRepresentation());
   }
 
   /**
@@ -517,6 +522,23 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
     return myself;
   }
 
+  /**
+   * Resets this assertion in place to the state of a new assertion on the given actual value, without allocating.
+   * <p>
+   * Only used by {@link ReusableAssertions}, subclasses having their own state must reset it too,
+   * {@code ReusableAssertions_reset_Test} checks that every field of the recycled assertions hierarchies is.
+   *
+   * @param actual the new actual value.
+   * @return {@code this} assertion object.
+   */
+  SELF reset(ACTUAL actual) {
+    this.actual = actual;
+    info.reset(Configuration.current().customRepresentation());
+    objects = Objects.instance();
+    conditions = Conditions.instance();
+    return myself;
+  }
+
   /** {@inheritDoc} */
   @Override
   @CheckReturnValue
@@ -650,7 +672,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   }
 
   public static void setCustomRepresentation(Representation customRepresentation) {
-    AbstractAssert.customRepresentation = customRepresentation;
+    Configuration.updateGlobal(configuration -> configuration.withCustomRepresentation(customRepresentation));
   }
 
   /** {@inheritDoc} */
@@ -1042,6 +1042,12 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
     return myself;
   }
 
+  @Override
+  SELF reset(ACTUAL actual) {
+    strings = Strings.instance();
+    return super.reset(actual);
+  }
+
   @Override
   @CheckReturnValue
   public SELF inHexadecimal() {
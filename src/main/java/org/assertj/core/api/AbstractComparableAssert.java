@@ -112,6 +112,13 @@ public abstract class AbstractComparableAssert<SELF extends AbstractComparableAs
     return myself;
   }
 
+  @Override
+  SELF reset(ACTUAL actual) {
+    // only replaced when a custom comparator was used, to avoid allocating when recycled assertions are reset
+    if (comparables.getComparator() != null) comparables = new Comparables();
+    return super.reset(actual);
+  }
+
   @Override
   @CheckReturnValue
   public SELF inHexadecimal() {
@@ -26,12 +26,15 @@ import static org.assertj.core.error.future.ShouldNotBeCompletedExceptionally.sh
 import static org.assertj.core.error.future.ShouldNotBeDone.shouldNotBeDone;
 import static org.assertj.core.error.future.ShouldNotHaveFailed.shouldNotHaveFailed;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Futures;
 import org.assertj.core.presentation.PredicateDescription;
 
 /**
@@ -359,4 +362,93 @@ public abstract class AbstractCompletableFutureAssert<SELF extends AbstractCompl
       return assertThat(e.getCause());
     }
   }
+
+  /**
+   * Waits at most the given time for the {@link CompletableFuture} to complete normally and returns an assertion object on its
+   * result to chain further assertions.
+   * <p>
+   * The wait is bounded by the given timeout and is not based on polling: the calling thread is woken up as soon as the
+   * future completes. Since no thread is used per verified future, many futures can be verified concurrently.
+   * <p>
+   * Assertion will pass :
+   * <pre><code class='java'> CompletableFuture&lt;String&gt; future = CompletableFuture.supplyAsync(() -&gt; "ook!");
+ *
+ * assertThat(future).succeedsWithin(Duration.ofSeconds(1))
+ *                   .isEqualTo("ook!");</code></pre>
+   *
+   * Assertion will fail :
+   * <pre><code class='java'> CompletableFuture&lt;String&gt; future = new CompletableFuture&lt;&gt;();
+ *
+ * // never completed
+ * assertThat(future).succeedsWithin(Duration.ofMillis(50));</code></pre>
+   *
+   * @param timeout the maximum time to wait for the future to complete.
+   * @return a new assertion object on the future result.
+   * @throws AssertionError if the actual {@code CompletableFuture} is {@code null}.
+   * @throws AssertionError if the actual {@code CompletableFuture} does not complete normally within the given time.
+   * @since 3.10.0
+   */
+  public ObjectAssert<RESULT> succeedsWithin(Duration timeout) {
+    return new ObjectAssert<>(Futures.instance().assertSucceededWithin(info, actual, timeout));
+  }
+
+  /**
+   * Waits at most the given time for the {@link CompletableFuture} to complete normally and returns an assertion object on its
+   * result to chain further assertions, see {@link #succeedsWithin(Duration)}.
+   *
+   * @param timeout the maximum time to wait for the future to complete.
+   * @param unit the time unit of the timeout argument.
+   * @return a new assertion object on the future result.
+   * @throws AssertionError if the actual {@code CompletableFuture} is {@code null}.
+   * @throws AssertionError if the actual {@code CompletableFuture} does not complete normally within the given time.
+   * @since 3.10.0
+   */
+  public ObjectAssert<RESULT> succeedsWithin(long timeout, TimeUnit unit) {
+    return succeedsWithin(Duration.ofNanos(unit.toNanos(timeout)));
+  }
+
+  /**
+   * Waits at most the given time for the {@link CompletableFuture} to complete exceptionally (and not be cancelled) and returns
+   * an assertion object on the {@link Throwable} that caused the failure to chain further assertions.
+   * <p>
+   * The wait is bounded and woken up on completion like in {@link #succeedsWithin(Duration)}.
+   * <p>
+   * Assertion will pass :
+   * <pre><code class='java'> CompletableFuture&lt;String&gt; future = CompletableFuture.supplyAsync(() -&gt; {
+ *   throw new IllegalStateException("boom!");
+ * });
+ *
+ * assertThat(future).failsWithin(Duration.ofSeconds(1))
+ *                   .isInstanceOf(IllegalStateException.class)
+ *                   .hasMessage("boom!");</code></pre>
+   *
+   * Assertion will fail :
+   * <pre><code class='java'> CompletableFuture&lt;String&gt; future = CompletableFuture.completedFuture("ook!");
+ *
+ * assertThat(future).failsWithin(Duration.ofSeconds(1));</code></pre>
+   *
+   * @param timeout the maximum time to wait for the future to complete.
+   * @return a new assertion object on the {@code Throwable} that caused the future to fail.
+   * @throws AssertionError if the actual {@code CompletableFuture} is {@code null}.
+   * @throws AssertionError if the actual {@code CompletableFuture} does not fail within the given time.
+   * @since 3.10.0
+   */
+  public AbstractThrowableAssert<?, ? extends Throwable> failsWithin(Duration timeout) {
+    return new ThrowableAssert(Futures.instance().assertFailedWithin(info, actual, timeout));
+  }
+
+  /**
+   * Waits at most the given time for the {@link CompletableFuture} to complete exceptionally (and not be cancelled) and returns
+   * an assertion object on the {@link Throwable} that caused the failure, see {@link #failsWithin(Duration)}.
+   *
+   * @param timeout the maximum time to wait for the future to complete.
+   * @param unit the time unit of the timeout argument.
+   * @return a new assertion object on the {@code Throwable} that caused the future to fail.
+   * @throws AssertionError if the actual {@code CompletableFuture} is {@code null}.
+   * @throws AssertionError if the actual {@code CompletableFuture} does not fail within the given time.
+   * @since 3.10.0
+   */
+  public AbstractThrowableAssert<?, ? extends Throwable> failsWithin(long timeout, TimeUnit unit) {
+    return failsWithin(Duration.ofNanos(unit.toNanos(timeout)));
+  }
 }
@@ -36,6 +36,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Dates;
 import org.assertj.core.util.CheckReturnValue;
@@ -63,14 +64,6 @@ import org.assertj.core.util.VisibleForTesting;
  */
 public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>> extends AbstractAssert<SELF, Date> {
 
-  /**
-   * the default DateFormat used to parse any String date representation.
-   */
-  private static final List<DateFormat> DEFAULT_DATE_FORMATS = newArrayList(newIsoDateTimeWithMsFormat(),
-                                                                            newTimestampDateFormat(),
-                                                                            newIsoDateTimeFormat(),
-                                                                            newIsoDateFormat());
-
   private static final String DATE_FORMAT_PATTERN_SHOULD_NOT_BE_NULL = "Given date format pattern should not be null";
   private static final String DATE_FORMAT_SHOULD_NOT_BE_NULL = "Given date format should not be null";
 
@@ -89,6 +82,17 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
   @VisibleForTesting
   Dates dates = Dates.instance();
 
+  /**
+   * Lazy holder of the default DateFormat used to parse any String date representation, they are only created the
+   * first time a String date representation is parsed.
+   */
+  private static class DefaultDateFormats {
+    private static final List<DateFormat> DEFAULT_DATE_FORMATS = newArrayList(newIsoDateTimeWithMsFormat(),
+                                                                              newTimestampDateFormat(),
+                                                                              newIsoDateTimeFormat(),
+                                                                              newIsoDateFormat());
+  }
+
   public AbstractDateAssert(Date actual, Class<?> selfType) {
     super(actual, selfType);
   }
@@ -2389,9 +2393,7 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
    * @param value whether lenient parsing mode should be enabled or not
    */
   public static void setLenientDateParsing(boolean value) {
-    for (DateFormat defaultDateFormat : DEFAULT_DATE_FORMATS) {
-      defaultDateFormat.setLenient(value);
-    }
+    Configuration.updateGlobal(configuration -> configuration.withLenientDateParsing(value));
   }
 
   /**
@@ -2541,7 +2543,7 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
   }
 
   /**
-   * Thread safe utility method to parse a Date with {@link #userDateFormats} first, then {@link #DEFAULT_DATE_FORMATS}.
+   * Thread safe utility method to parse a Date with {@link #userDateFormats} first, then the default date formats.
    * <p>
    * Returns <code>null</code> if dateAsString parameter is <code>null</code>.
    *
@@ -2565,14 +2567,20 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
   }
 
   private Date parseDateWithDefaultDateFormats(final String dateAsString) {
-    synchronized (DEFAULT_DATE_FORMATS) {
-      return parseDateWith(dateAsString, DEFAULT_DATE_FORMATS);
+    boolean lenient = Configuration.current().lenientDateParsing();
+    List<DateFormat> defaultDateFormats = DefaultDateFormats.DEFAULT_DATE_FORMATS;
+    synchronized (defaultDateFormats) {
+      // the default formats are shared, they are set to the leniency of the configuration in effect before each use
+      for (DateFormat defaultDateFormat : defaultDateFormats) {
+        defaultDateFormat.setLenient(lenient);
+      }
+      return parseDateWith(dateAsString, defaultDateFormats);
     }
   }
 
   private List<DateFormat> dateFormatsInOrderOfUsage() {
     List<DateFormat> allDateFormatsInOrderOfUsage = newArrayList(userDateFormats.get());
-    allDateFormatsInOrderOfUsage.addAll(DEFAULT_DATE_FORMATS);
+    allDateFormatsInOrderOfUsage.addAll(DefaultDateFormats.DEFAULT_DATE_FORMATS);
     return allDateFormatsInOrderOfUsage;
   }
 
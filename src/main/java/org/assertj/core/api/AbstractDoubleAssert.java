@@ -659,6 +659,19 @@ public abstract class AbstractDoubleAssert<SELF extends AbstractDoubleAssert<SEL
     return myself;
   }
 
+  @Override
+  SELF reset(Double actual) {
+    doubles = Doubles.instance();
+    isPrimitive = false;
+    return super.reset(actual);
+  }
+
+  SELF reset(double actual) {
+    reset(Double.valueOf(actual));
+    isPrimitive = true;
+    return myself;
+  }
+
   private void assertIsPrimitiveZero() {
     if (actual.doubleValue() == 0.0) return;
     throw Failures.instance().failure(info, shouldBeEqual(actual, 0.0, info.representation()));
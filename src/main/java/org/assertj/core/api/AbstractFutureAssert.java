@@ -12,7 +12,9 @@
  */
 package org.assertj.core.api;
 
+import java.time.Duration;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.internal.Futures;
 import org.assertj.core.util.VisibleForTesting;
@@ -160,4 +162,99 @@ public abstract class AbstractFutureAssert<SELF extends AbstractFutureAssert<SEL
     futures.assertIsNotDone(info, actual);
     return myself;
   }
+
+  /**
+   * Waits at most the given time for the {@link Future} to complete normally and returns an assertion object on its
+   * result to chain further assertions.
+   * <p>
+   * The wait is bounded by the given timeout and is not based on polling: the calling thread is woken up as soon as the
+   * future completes. Since no thread is used per verified future, many futures can be verified concurrently.
+   * <p>
+   * Assertion will pass :
+   * <pre><code class='java'> ExecutorService executorService = Executors.newSingleThreadExecutor();
+ * Future&lt;String&gt; future = executorService.submit(() -&gt; "ook!");
+ *
+ * assertThat(future).succeedsWithin(Duration.ofSeconds(1))
+ *                   .isEqualTo("ook!");</code></pre>
+   *
+   * Assertion will fail :
+   * <pre><code class='java'> ExecutorService executorService = Executors.newSingleThreadExecutor();
+ * Future&lt;String&gt; future = executorService.submit(() -&gt; {
+ *   Thread.sleep(1000);
+ *   return "ook!";
+ * });
+ *
+ * assertThat(future).succeedsWithin(Duration.ofMillis(50));</code></pre>
+   *
+   * @param timeout the maximum time to wait for the future to complete.
+   * @return a new assertion object on the future result.
+   * @throws AssertionError if the actual {@code Future} is {@code null}.
+   * @throws AssertionError if the actual {@code Future} does not complete normally within the given time.
+   * @since 3.10.0
+   */
+  public ObjectAssert<RESULT> succeedsWithin(Duration timeout) {
+    return new ObjectAssert<>(futures.assertSucceededWithin(info, actual, timeout));
+  }
+
+  /**
+   * Waits at most the given time for the {@link Future} to complete normally and returns an assertion object on its
+   * result to chain further assertions, see {@link #succeedsWithin(Duration)}.
+   *
+   * @param timeout the maximum time to wait for the future to complete.
+   * @param unit the time unit of the timeout argument.
+   * @return a new assertion object on the future result.
+   * @throws AssertionError if the actual {@code Future} is {@code null}.
+   * @throws AssertionError if the actual {@code Future} does not complete normally within the given time.
+   * @since 3.10.0
+   */
+  public ObjectAssert<RESULT> succeedsWithin(long timeout, TimeUnit unit) {
+    return succeedsWithin(Duration.ofNanos(unit.toNanos(timeout)));
+  }
+
+  /**
+   * Waits at most the given time for the {@link Future} to complete exceptionally (and not be cancelled) and returns
+   * an assertion object on the {@link Throwable} that caused the failure to chain further assertions.
+   * <p>
+   * The wait is bounded and woken up on completion like in {@link #succeedsWithin(Duration)}.
+   * <p>
+   * Assertion will pass :
+   * <pre><code class='java'> ExecutorService executorService = Executors.newSingleThreadExecutor();
+ * Future&lt;String&gt; future = executorService.submit(() -&gt; {
+ *   throw new IllegalStateException("boom!");
+ * });
+ *
+ * assertThat(future).failsWithin(Duration.ofSeconds(1))
+ *                   .isInstanceOf(IllegalStateException.class)
+ *                   .hasMessage("boom!");</code></pre>
+   *
+   * Assertion will fail :
+   * <pre><code class='java'> ExecutorService executorService = Executors.newSingleThreadExecutor();
+ * Future&lt;String&gt; future = executorService.submit(() -&gt; "ook!");
+ *
+ * assertThat(future).failsWithin(Duration.ofSeconds(1));</code></pre>
+   *
+   * @param timeout the maximum time to wait for the future to complete.
+   * @return a new assertion object on the {@code Throwable} that caused the future to fail.
+   * @throws AssertionError if the actual {@code Future} is {@code null}.
+   * @throws AssertionError if the actual {@code Future} does not fail within the given time.
+   * @since 3.10.0
+   */
+  public AbstractThrowableAssert<?, ? extends Throwable> failsWithin(Duration timeout) {
+    return new ThrowableAssert(futures.assertFailedWithin(info, actual, timeout));
+  }
+
+  /**
+   * Waits at most the given time for the {@link Future} to complete exceptionally (and not be cancelled) and returns
+   * an assertion object on the {@link Throwable} that caused the failure, see {@link #failsWithin(Duration)}.
+   *
+   * @param timeout the maximum time to wait for the future to complete.
+   * @param unit the time unit of the timeout argument.
+   * @return a new assertion object on the {@code Throwable} that caused the future to fail.
+   * @throws AssertionError if the actual {@code Future} is {@code null}.
+   * @throws AssertionError if the actual {@code Future} does not fail within the given time.
+   * @since 3.10.0
+   */
+  public AbstractThrowableAssert<?, ? extends Throwable> failsWithin(long timeout, TimeUnit unit) {
+    return failsWithin(Duration.ofNanos(unit.toNanos(timeout)));
+  }
 }
@@ -535,4 +535,10 @@ public abstract class AbstractIntegerAssert<SELF extends AbstractIntegerAssert<S
     integers = Integers.instance();
     return myself;
   }
+
+  @Override
+  SELF reset(Integer actual) {
+    integers = Integers.instance();
+    return super.reset(actual);
+  }
 }
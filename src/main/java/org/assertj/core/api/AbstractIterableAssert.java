@@ -38,6 +38,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.TreeMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -115,6 +116,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
 
   protected Iterables iterables = Iterables.instance();
 
+  private boolean inParallel = false;
+
   public AbstractIterableAssert(ACTUAL actual, Class<?> selfType) {
     super(actual, selfType);
   }
@@ -2298,7 +2301,9 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   private ELEMENT lastElement() {
     if (actual instanceof List) {
       List<? extends ELEMENT> list = (List<? extends ELEMENT>) actual;
-      return list.get(list.size() - 1);
+      if (list instanceof RandomAccess) return list.get(list.size() - 1);
+      // a list iterator starting at the end does not walk the list (e.g. LinkedList)
+      return list.listIterator(list.size()).previous();
     }
     Iterator<? extends ELEMENT> actualIterator = actual.iterator();
     ELEMENT last = actualIterator.next();
@@ -2353,21 +2358,28 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @CheckReturnValue
   public ELEMENT_ASSERT element(int index) {
     isNotEmpty();
-    assertThat(index).describedAs(navigationDescription("check index validity"))
-                     .isBetween(0, IterableUtil.sizeOf(actual) - 1);
-    ELEMENT elementAtIndex = null;
-    if (actual instanceof List) {
-      List<? extends ELEMENT> list = (List<? extends ELEMENT>) actual;
-      elementAtIndex = list.get(index);
-    } else {
-      Iterator<? extends ELEMENT> actualIterator = actual.iterator();
-      for (int i = 0; i < index; i++) {
-        actualIterator.next();
-      }
-      elementAtIndex = actualIterator.next();
+    return toAssert(elementAt(index), navigationDescription("element at index " + index));
+  }
+
+  private ELEMENT elementAt(int index) {
+    if (index < 0 || actual instanceof Collection) {
+      checkIndexIsValid(index, IterableUtil.sizeOf(actual));
+      if (actual instanceof List) return ((List<? extends ELEMENT>) actual).get(index);
+    }
+    // walk actual once, its size is only needed to report an index out of bound
+    Iterator<? extends ELEMENT> actualIterator = actual.iterator();
+    int skippedElements = 0;
+    while (skippedElements < index && actualIterator.hasNext()) {
+      actualIterator.next();
+      skippedElements++;
     }
+    if (!actualIterator.hasNext()) checkIndexIsValid(index, skippedElements);
+    return actualIterator.next();
+  }
 
-    return toAssert(elementAtIndex, navigationDescription("element at index " + index));
+  private void checkIndexIsValid(int index, int size) {
+    assertThat(index).describedAs(navigationDescription("check index validity"))
+                     .isBetween(0, size - 1);
   }
 
   protected abstract ELEMENT_ASSERT toAssert(ELEMENT value, String description);
@@ -2384,6 +2396,33 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return text.endsWith(ASSERT) ? text.substring(0, text.length() - ASSERT.length()) : text;
   }
 
+  /**
+   * Evaluates the predicates and requirements given to {@link #allMatch(Predicate) allMatch},
+   * {@link #allSatisfy(Consumer) allSatisfy}, {@link #noneMatch(Predicate) noneMatch} and
+   * {@link #filteredOn(Predicate) filteredOn(Predicate)} in parallel on the common
+   * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}.
+   * <p>
+   * This is useful when checking each element is expensive and the iterable under test is large, the predicates and
+   * requirements must then be safe to evaluate concurrently. Error messages are the same as in sequential mode and
+   * report the first failing elements in the iterable order, {@code filteredOn} also keeps the iterable order. The
+   * {@code allSatisfy} requirements are evaluated with the {@link org.assertj.core.configuration.Configuration
+   * Configuration} in effect on the calling thread.
+   * <p>
+   * Example :
+   * <pre><code class='java'> List&lt;Document&gt; documents = loadOneMillionDocuments();
+   *
+   * assertThat(documents).inParallel()
+   *                      .allSatisfy(document -&gt; assertThat(schema.validate(document)).isTrue());</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @since 3.10.0
+   */
+  @CheckReturnValue
+  public SELF inParallel() {
+    inParallel = true;
+    return myself;
+  }
+
   /**
    * Filter the iterable under test keeping only elements matching the given {@link Predicate}.
    * <p>
@@ -2404,7 +2443,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   public AbstractListAssert<?, List<? extends ELEMENT>, ELEMENT, ObjectAssert<ELEMENT>> filteredOn(Predicate<? super ELEMENT> predicate) {
     checkArgument(predicate != null, "The filter predicate should not be null");
-    return new ListAssert<>(stream(actual.spliterator(), false).filter(predicate).collect(toList()));
+    return new ListAssert<>(stream(actual.spliterator(), inParallel).filter(predicate).collect(toList()));
   }
 
   /**
@@ -2412,7 +2451,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @Override
   public SELF allMatch(Predicate<? super ELEMENT> predicate) {
-    iterables.assertAllMatch(info, actual, predicate, PredicateDescription.GIVEN);
+    iterables.assertAllMatch(info, actual, predicate, PredicateDescription.GIVEN, inParallel);
     return myself;
   }
 
@@ -2421,7 +2460,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @Override
   public SELF allMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
-    iterables.assertAllMatch(info, actual, predicate, new PredicateDescription(predicateDescription));
+    iterables.assertAllMatch(info, actual, predicate, new PredicateDescription(predicateDescription), inParallel);
     return myself;
   }
 
@@ -2430,7 +2469,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @Override
   public SELF allSatisfy(Consumer<? super ELEMENT> requirements) {
-    iterables.assertAllSatisfy(info, actual, requirements);
+    iterables.assertAllSatisfy(info, actual, requirements, inParallel);
     return myself;
   }
 
@@ -2632,7 +2671,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
 
   @Override
   public SELF noneMatch(Predicate<? super ELEMENT> predicate) {
-    iterables.assertNoneMatch(info, actual, predicate, PredicateDescription.GIVEN);
+    iterables.assertNoneMatch(info, actual, predicate, PredicateDescription.GIVEN, inParallel);
     return myself;
   }
 
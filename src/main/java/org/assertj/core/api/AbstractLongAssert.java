@@ -535,4 +535,10 @@ public abstract class AbstractLongAssert<SELF extends AbstractLongAssert<SELF>>
     longs = Longs.instance();
     return myself;
   }
+
+  @Override
+  SELF reset(Long actual) {
+    longs = Longs.instance();
+    return super.reset(actual);
+  }
 }
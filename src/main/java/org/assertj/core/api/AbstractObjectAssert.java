@@ -50,7 +50,8 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
     extends AbstractAssert<SELF, ACTUAL> {
 
   private Map<String, Comparator<?>> comparatorByPropertyOrField = new TreeMap<>();
-  private TypeComparators comparatorByType = defaultTypeComparators();
+  // created on first use as most object assertions never compare fields
+  private TypeComparators comparatorByType;
 
   public AbstractObjectAssert(ACTUAL actual, Class<?> selfType) {
     super(actual, selfType);
@@ -106,7 +107,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    * @throws IntrospectionError if one of actual's field to compare can't be found in the other object.
    */
   public SELF isEqualToIgnoringNullFields(Object other) {
-    objects.assertIsEqualToIgnoringNullFields(info, actual, other, comparatorByPropertyOrField, comparatorByType);
+    objects.assertIsEqualToIgnoringNullFields(info, actual, other, comparatorByPropertyOrField, getComparatorByType());
     return myself;
   }
 
@@ -149,8 +150,8 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    * @throws IntrospectionError if a property/field does not exist in actual.
    */
   public SELF isEqualToComparingOnlyGivenFields(Object other, String... propertiesOrFieldsUsedInComparison) {
-    objects.assertIsEqualToComparingOnlyGivenFields(info, actual, other, comparatorByPropertyOrField, comparatorByType,
-                                                    propertiesOrFieldsUsedInComparison);
+    objects.assertIsEqualToComparingOnlyGivenFields(info, actual, other, comparatorByPropertyOrField,
+                                                    getComparatorByType(), propertiesOrFieldsUsedInComparison);
     return myself;
   }
 
@@ -189,8 +190,8 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    * @throws IntrospectionError if one of actual's property/field to compare can't be found in the other object.
    */
   public SELF isEqualToIgnoringGivenFields(Object other, String... propertiesOrFieldsToIgnore) {
-    objects.assertIsEqualToIgnoringGivenFields(info, actual, other, comparatorByPropertyOrField, comparatorByType,
-                                               propertiesOrFieldsToIgnore);
+    objects.assertIsEqualToIgnoringGivenFields(info, actual, other, comparatorByPropertyOrField,
+                                               getComparatorByType(), propertiesOrFieldsToIgnore);
     return myself;
   }
 
@@ -291,7 +292,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    * @throws IntrospectionError if one of actual's property/field to compare can't be found in the other object.
    */
   public SELF isEqualToComparingFieldByField(Object other) {
-    objects.assertIsEqualToIgnoringGivenFields(info, actual, other, comparatorByPropertyOrField, comparatorByType);
+    objects.assertIsEqualToIgnoringGivenFields(info, actual, other, comparatorByPropertyOrField, getComparatorByType());
     return myself;
   }
 
@@ -410,7 +411,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    */
   @CheckReturnValue
   public <T> SELF usingComparatorForType(Comparator<? super T> comparator, Class<T> type) {
-    comparatorByType.put(type, comparator);
+    getComparatorByType().put(type, comparator);
     return myself;
   }
 
@@ -651,7 +652,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    */
   public SELF isEqualToComparingFieldByFieldRecursively(Object other) {
     objects.assertIsEqualToComparingFieldByFieldRecursively(info, actual, other, comparatorByPropertyOrField,
-                                                            comparatorByType);
+                                                            getComparatorByType());
     return myself;
   }
 
@@ -678,4 +679,16 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
     objects.assertEqual(info, from.apply(actual), expected);
     return myself;
   }
+
+  @Override
+  SELF reset(ACTUAL actual) {
+    comparatorByPropertyOrField.clear();
+    comparatorByType = null;
+    return super.reset(actual);
+  }
+
+  private TypeComparators getComparatorByType() {
+    if (comparatorByType == null) comparatorByType = defaultTypeComparators();
+    return comparatorByType;
+  }
 }
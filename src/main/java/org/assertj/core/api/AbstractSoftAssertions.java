@@ -12,9 +12,6 @@
  */
 package org.assertj.core.api;
 
-import static java.lang.String.format;
-
-import java.lang.reflect.Field;
 import java.util.List;
 
 import org.assertj.core.internal.Failures;
@@ -27,6 +24,10 @@ public class AbstractSoftAssertions {
     proxies = new SoftProxies();
   }
 
+  AbstractSoftAssertions(ErrorCollector collector) {
+    proxies = new SoftProxies(collector);
+  }
+
   public <T, V> V proxy(Class<V> assertClass, Class<T> actualClass, T actual) {
     return proxies.create(assertClass, actualClass, actual);
   }
@@ -101,7 +102,7 @@ public class AbstractSoftAssertions {
    * @return a copy of list of soft assertions collected errors.
    */
   public List<Throwable> errorsCollected() {
-    return addLineNumberToErrorMessages(proxies.errorsCollected());
+    return proxies.errorsCollected();
   }
 
   /**
@@ -119,58 +120,4 @@ public class AbstractSoftAssertions {
   public boolean wasSuccess() {
     return proxies.wasSuccess();
   }
-
-  private List<Throwable> addLineNumberToErrorMessages(List<Throwable> errors) {
-    for (Throwable error : errors) {
-      addLineNumberToErrorMessage(error);
-    }
-    return errors;
-  }
-
-  private void addLineNumberToErrorMessage(Throwable error) {
-    StackTraceElement testStackTraceElement = getFirstStackTraceElementFromTest(error.getStackTrace());
-    if (testStackTraceElement != null) {
-      changeErrorMessage(error, buildErrorMessageWithLineNumber(error.getMessage(), testStackTraceElement));
-    }
-  }
-
-  private String buildErrorMessageWithLineNumber(String originalErrorMessage, StackTraceElement testStackTraceElement) {
-    String testClassName = simpleClassNameOf(testStackTraceElement);
-    String testName = testStackTraceElement.getMethodName();
-    int lineNumber = testStackTraceElement.getLineNumber();
-    return format("%s%nat %s.%s(%s.java:%s)", originalErrorMessage, testClassName, testName, testClassName, lineNumber);
-  }
-
-  private void changeErrorMessage(Throwable error, String errorMessageWithLineNumber) {
-    try {
-      Field field = Throwable.class.getDeclaredField("detailMessage");
-      field.setAccessible(true);
-      field.set(error, errorMessageWithLineNumber);
-    } catch (Exception ignored) {}
-  }
-
-  private String simpleClassNameOf(StackTraceElement testStackTraceElement) {
-    String className = testStackTraceElement.getClassName();
-    return className.substring(className.lastIndexOf('.') + 1);
-  }
-
-  private StackTraceElement getFirstStackTraceElementFromTest(StackTraceElement[] stacktrace) {
-    for (StackTraceElement element : stacktrace) {
-      String className = element.getClassName();
-      if (className.startsWith("sun.reflect")
-          || className.startsWith("jdk.internal.reflect")
-          || className.startsWith("java.")
-          || className.startsWith("javax.")
-          || className.startsWith("org.junit.")
-          || className.startsWith("org.eclipse.jdt.internal.junit.")
-          || className.startsWith("org.eclipse.jdt.internal.junit4.")
-          || className.startsWith("org.apache.maven.surefire")
-          || className.startsWith("net.sf.cglib.proxy")
-          || className.startsWith("org.assertj")) {
-        continue;
-      }
-      return element;
-    }
-    return null;
-  }
 }
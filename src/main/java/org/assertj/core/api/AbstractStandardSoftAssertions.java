@@ -40,6 +40,12 @@ import org.assertj.core.util.CheckReturnValue;
 
 public abstract class AbstractStandardSoftAssertions extends Java6AbstractStandardSoftAssertions {
 
+  public AbstractStandardSoftAssertions() {}
+
+  AbstractStandardSoftAssertions(ErrorCollector collector) {
+    super(collector);
+  }
+
   /**
    * Creates a new, proxied instance of a {@link PathAssert}
    *
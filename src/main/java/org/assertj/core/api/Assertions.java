@@ -26,6 +26,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.sql.Timestamp;
 import java.text.DateFormat;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -1242,6 +1243,33 @@ public class Assertions {
     return AssertionsForClassTypes.catchThrowableOfType(shouldRaiseThrowable, type);
   }
 
+  /**
+   * Runs the given assertion until it passes or the given timeout expires, this is meant to check systems which only
+   * reach the expected state after some time, like eventually consistent services, without hand-rolled sleep loops.
+   * <p>
+   * The assertion is retried with waits growing exponentially from 10ms up to 1s (and never past the timeout), the
+   * failed attempts are cheap: their errors are discarded without capturing a stack trace or formatting a message.
+   * Attempts throwing an exception (e.g. because the data is not there yet) are retried as well.
+   * <p>
+   * Once the timeout has expired, the assertion is run a last time, its error (or exception) is the one thrown.
+   * <p>
+   * Example:
+   * <pre><code class='java'> orderService.placeOrder(order);
+   *
+   * // the order eventually shows up in the read model
+   * eventually(Duration.ofSeconds(5), () -&gt; assertThat(orderView.findById(order.getId())).isPresent());</code></pre>
+   *
+   * @param timeout how long to retry the assertion.
+   * @param assertion the assertion to retry.
+   * @throws AssertionError the error of the last attempt if the assertion did not pass before the timeout expired.
+   * @throws NullPointerException if the given timeout or assertion is {@code null}.
+   * @throws IllegalArgumentException if the given timeout is negative.
+   * @since 3.10.0
+   */
+  public static void eventually(Duration timeout, ThrowingCallable assertion) {
+    Eventually.eventually(timeout, assertion);
+  }
+
   /**
    * Entry point to check that an exception of type T is thrown by a given {@code throwingCallable}
    * which allows to chain assertions on the thrown exception.
@@ -1322,6 +1350,18 @@ public class Assertions {
     Fail.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Sets the maximum number of elements kept in the assertion error stack trace when elements related to AssertJ are
+   * removed from it, this is useful to reduce the memory used by failures raised in bulk like soft assertions ones.
+   *
+   * @param maxStackTraceDepth the maximum number of stack trace elements to keep.
+   * @throws IllegalArgumentException if {@code maxStackTraceDepth} is negative.
+   * @since 3.10.0
+   */
+  public static void setMaxStackTraceDepth(int maxStackTraceDepth) {
+    Fail.setMaxStackTraceDepth(maxStackTraceDepth);
+  }
+
   /**
    * Throws an {@link AssertionError} with the given message.
    *
@@ -1433,6 +1473,43 @@ public class Assertions {
     StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * In error messages, sets the maximum length of a single value representation (a {@code String}, an element of a
+   * collection, ...), the representations exceeding it are cut and followed by the number of omitted chars.
+   * <p>
+   * E.q. When this method is called with a value of {@code 10}:
+   * <pre><code class='java'> // formatted as "abcdefghi...(18 chars omitted)
+   * assertThat("abcdefghijklmnopqrstuvwxyz").isEmpty();</code></pre>
+   *
+   * @param maxLengthForPrintedValue the maximum length of a single value representation
+   * @since 3.10.0
+   */
+  public static void setMaxLengthForPrintedValue(int maxLengthForPrintedValue) {
+    StandardRepresentation.setMaxLengthForPrintedValue(maxLengthForPrintedValue);
+  }
+
+  /**
+   * Sets the maximum length of error messages, the messages exceeding it are cut while being formatted, this avoids
+   * building huge error messages when the values under test have huge representations.
+   *
+   * @param maxLengthForErrorMessage the maximum length of error messages
+   * @since 3.10.0
+   */
+  public static void setMaxLengthForErrorMessage(int maxLengthForErrorMessage) {
+    StandardRepresentation.setMaxLengthForErrorMessage(maxLengthForErrorMessage);
+  }
+
+  /**
+   * Sets the maximum number of errors described in the message of a {@link SoftAssertionError}, the errors beyond it are
+   * only counted, they are all still available with {@link SoftAssertionError#getErrors()}.
+   *
+   * @param maxErrorsInSoftAssertionMessage the maximum number of errors described in a soft assertion error message
+   * @since 3.10.0
+   */
+  public static void setMaxErrorsInSoftAssertionMessage(int maxErrorsInSoftAssertionMessage) {
+    SoftAssertionError.setMaxErrorsInMessage(maxErrorsInSoftAssertionMessage);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
@@ -13,6 +13,8 @@
 package org.assertj.core.api;
 
 import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Build the Assert instance by reflection.
@@ -27,6 +29,15 @@ public class ClassBasedNavigableIterableAssert<SELF extends ClassBasedNavigableI
        extends AbstractIterableAssert<SELF, ACTUAL, ELEMENT, ELEMENT_ASSERT> {
 // @format:on
 
+  // matching constructors by element class, by assert class
+  private static final ClassValue<Map<Class<?>, Constructor<?>>> ASSERT_CONSTRUCTORS = //
+      new ClassValue<Map<Class<?>, Constructor<?>>>() {
+        @Override
+        protected Map<Class<?>, Constructor<?>> computeValue(Class<?> assertClass) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
   private Class<ELEMENT_ASSERT> assertClass;
 
   public ClassBasedNavigableIterableAssert(ACTUAL actual, Class<?> selfType, Class<ELEMENT_ASSERT> assertClass) {
@@ -39,21 +50,38 @@ public class ClassBasedNavigableIterableAssert<SELF extends ClassBasedNavigableI
   }
 
   private <V> ELEMENT_ASSERT buildAssert(V value, String description, Class<?> clazz) {
+    return buildAssert(assertClass, value, description, clazz);
+  }
+
+  static <V, ELEMENT_ASSERT extends AbstractAssert<ELEMENT_ASSERT, ?>> ELEMENT_ASSERT
+      buildAssert(Class<ELEMENT_ASSERT> assertClass, V value, String description, Class<?> clazz) {
     try {
-      Constructor<?>[] declaredConstructors = assertClass.getDeclaredConstructors();
-      // find a matching Assert constructor for E or one of its subclass.
-      for (int i = 0; i < declaredConstructors.length; i++) {
-        Constructor<?> constructor = declaredConstructors[i];
-        if (constructor.getParameterTypes().length == 1 && constructor.getParameterTypes()[0].isAssignableFrom(clazz)) {
-          @SuppressWarnings("unchecked")
-          ELEMENT_ASSERT newAssert = (ELEMENT_ASSERT) constructor.newInstance(value);
-          return newAssert.as(description);
-        }
-      }
-      throw new RuntimeException("Failed to find a constructor matching " + value
-                                 + " class to build the expected Assert class");
+      Constructor<?> constructor = findAssertConstructor(assertClass, clazz);
+      if (constructor == null) throw new RuntimeException("Failed to find a constructor matching " + value
+                                                          + " class to build the expected Assert class");
+      @SuppressWarnings("unchecked")
+      ELEMENT_ASSERT newAssert = (ELEMENT_ASSERT) constructor.newInstance(value);
+      return newAssert.as(description);
     } catch (Exception e) {
       throw new RuntimeException("Failed to build an assert object with " + value + ": " + e.getMessage(), e);
     }
   }
+
+  private static Constructor<?> findAssertConstructor(Class<?> assertClass, Class<?> clazz) {
+    // the matching constructor is looked up once per assert class and element class, they are navigated many times
+    Map<Class<?>, Constructor<?>> constructorByElementClass = ASSERT_CONSTRUCTORS.get(assertClass);
+    Constructor<?> constructor = constructorByElementClass.get(clazz);
+    if (constructor != null) return constructor;
+    Constructor<?>[] declaredConstructors = assertClass.getDeclaredConstructors();
+    // find a matching Assert constructor for E or one of its subclass.
+    for (int i = 0; i < declaredConstructors.length; i++) {
+      Constructor<?> declaredConstructor = declaredConstructors[i];
+      Class<?>[] parameterTypes = declaredConstructor.getParameterTypes();
+      if (parameterTypes.length == 1 && parameterTypes[0].isAssignableFrom(clazz)) {
+        constructorByElementClass.put(clazz, declaredConstructor);
+        return declaredConstructor;
+      }
+    }
+    return null;
+  }
 }
@@ -12,7 +12,6 @@
  */
 package org.assertj.core.api;
 
-import java.lang.reflect.Constructor;
 import java.util.List;
 
 /**
@@ -41,21 +40,6 @@ public class ClassBasedNavigableListAssert<SELF extends ClassBasedNavigableListA
   }
 
   private <V> ELEMENT_ASSERT buildAssert(V value, String description, Class<?> clazz) {
-    try {
-      Constructor<?>[] declaredConstructors = assertClass.getDeclaredConstructors();
-      // find a matching Assert constructor for E or one of its subclass.
-      for (int i = 0; i < declaredConstructors.length; i++) {
-        Constructor<?> constructor = declaredConstructors[i];
-        if (constructor.getParameterTypes().length == 1 && constructor.getParameterTypes()[0].isAssignableFrom(clazz)) {
-          @SuppressWarnings("unchecked")
-          ELEMENT_ASSERT newAssert = (ELEMENT_ASSERT) constructor.newInstance(value);
-          return newAssert.as(description);
-        }
-      }
-      throw new RuntimeException("Failed to find a constructor matching " + value
-                                 + " class to build the expected Assert class");
-    } catch (Exception e) {
-      throw new RuntimeException("Failed to build an assert object with " + value + ": " + e.getMessage(), e);
-    }
+    return ClassBasedNavigableIterableAssert.buildAssert(assertClass, value, description, clazz);
   }
 }
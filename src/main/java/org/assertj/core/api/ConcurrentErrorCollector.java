@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ErrorCollector} that can be shared by threads collecting errors concurrently.
+ * <p>
+ * Errors are stored in a lock-free queue along with their ordering key, fixed when they are collected:
+ * <ul>
+ * <li>the key given by the caller to {@link #runWithOrderingKey(long, Runnable)} and the submission sequence number,
+ * ordered by key then by sequence</li>
+ * <li>the submission sequence number only for errors collected without key, ordered after the keyed ones</li>
+ * </ul>
+ * Keyed errors are thus reported in the same order whatever the threads running the assertions. The result of the last
+ * assertion is tracked per thread.
+ */
+class ConcurrentErrorCollector extends ErrorCollector {
+
+  // keyed errors first
+  private static final Comparator<CollectedError> ORDERING_KEY = comparing((CollectedError error) -> error.orderingKey,
+                                                                            nullsLast(naturalOrder()))
+      .thenComparingLong(error -> error.sequence);
+
+  private final Queue<CollectedError> errors = new ConcurrentLinkedQueue<>();
+  private final AtomicLong sequence = new AtomicLong();
+  private final ThreadLocal<LastResult> lastResult = ThreadLocal.withInitial(LastResult::new);
+  private final ThreadLocal<Long> orderingKey = new ThreadLocal<>();
+
+  /**
+   * Runs the given assertions, the errors they collect being ordered by the given key.
+   *
+   * @param key the ordering key of the errors collected by the given assertions.
+   * @param assertions the assertions to run.
+   */
+  void runWithOrderingKey(long key, Runnable assertions) {
+    Long previousKey = orderingKey.get();
+    orderingKey.set(key);
+    try {
+      assertions.run();
+    } finally {
+      if (previousKey == null) orderingKey.remove();
+      else orderingKey.set(previousKey);
+    }
+  }
+
+  @Override
+  void store(Throwable error) {
+    errors.add(new CollectedError(orderingKey.get(), sequence.getAndIncrement(), error));
+  }
+
+  @Override
+  LastResult lastResult() {
+    return lastResult.get();
+  }
+
+  @Override
+  public List<Throwable> errors() {
+    return errors.stream()
+                 .sorted(ORDERING_KEY)
+                 .map(collectedError -> collectedError.error)
+                 .collect(collectingAndThen(toList(), Collections::unmodifiableList));
+  }
+
+  private static class CollectedError {
+    private final Long orderingKey;
+    private final long sequence;
+    private final Throwable error;
+
+    private CollectedError(Long orderingKey, long sequence, Throwable error) {
+      this.orderingKey = orderingKey;
+      this.sequence = sequence;
+      this.error = error;
+    }
+  }
+}
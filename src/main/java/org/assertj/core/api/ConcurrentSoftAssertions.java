@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+/**
+ * A version of {@link SoftAssertions} that can be shared by threads running soft assertions concurrently, for example
+ * tasks verifying results from a parallel stream or an executor.
+ * <p>
+ * Example:
+ * <pre><code class='java'> ConcurrentSoftAssertions softly = new ConcurrentSoftAssertions();
+ * results.parallelStream()
+ *        .forEach(result -&gt; softly.assertThat(result.getStatus()).as(result.getName()).isEqualTo(OK));
+ * softly.assertAll();</code></pre>
+ * <p>
+ * Errors are collected without locking and reported in submission order, which depends on the threads interleaving.
+ * To get the same report whatever the interleaving, run the assertions of each task with
+ * {@link #assertWithOrderingKey(long, Runnable)}: errors are then reported by key, then by submission order for a given
+ * key, before the errors collected without key.
+ * <pre><code class='java'> IntStream.range(0, results.size())
+ *          .parallel()
+ *          .forEach(i -&gt; softly.assertWithOrderingKey(i, () -&gt; softly.assertThat(results.get(i).getStatus())
+ *                                                                   .isEqualTo(OK)));</code></pre>
+ * <p>
+ * {@link #wasSuccess()} returns the result of the last soft assertion run by the calling thread.
+ *
+ * @since 3.10.0
+ */
+public class ConcurrentSoftAssertions extends SoftAssertions {
+
+  private final ConcurrentErrorCollector collector;
+
+  public ConcurrentSoftAssertions() {
+    this(new ConcurrentErrorCollector());
+  }
+
+  private ConcurrentSoftAssertions(ConcurrentErrorCollector collector) {
+    super(collector);
+    this.collector = collector;
+  }
+
+  /**
+   * Runs the given soft assertions, their errors being reported in the order of the given key whatever the thread
+   * running them, see the class documentation.
+   *
+   * @param orderingKey the key ordering the errors of the given soft assertions, typically the index of the verified
+   *          element.
+   * @param softAssertions the soft assertions to run.
+   */
+  public void assertWithOrderingKey(long orderingKey, Runnable softAssertions) {
+    collector.runWithOrderingKey(orderingKey, softAssertions);
+  }
+
+}
@@ -12,11 +12,16 @@
  */
 package org.assertj.core.api;
 
+import static java.lang.String.format;
+
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.assertj.core.error.LazyMessageAssertionError;
+
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
@@ -37,21 +42,21 @@ public class ErrorCollector implements MethodInterceptor {
     Object result = obj;
     try {
       result = proxy.invokeSuper(obj, args);
-      lastResult.setSuccess(true);
+      lastResult().setSuccess(true);
     } catch (AssertionError e) {
       if (isNestedErrorCollectorProxyCall()) {
         // let the most outer call handle the assertion error
         throw e;
       }
-      lastResult.setSuccess(false);
-      errors.add(e);
+      lastResult().setSuccess(false);
+      collect(e);
     }
     return result;
   }
 
   public void addError(Throwable error) {
-    errors.add(error);
-    lastResult.recordError();
+    collect(error);
+    lastResult().recordError();
   }
 
   public List<Throwable> errors() {
@@ -59,7 +64,28 @@ public class ErrorCollector implements MethodInterceptor {
   }
 
   public boolean wasSuccess() {
-    return lastResult.wasSuccess();
+    return lastResult().wasSuccess();
+  }
+
+  /**
+   * Collects the given error after having added to its message the line of the test that produced it.
+   * <p>
+   * The test line is looked up once, here, so that reading the collected errors neither looks it up again nor adds it
+   * twice. The message of a {@link LazyMessageAssertionError} is not built, the line is added when it is.
+   *
+   * @param error the error to collect.
+   */
+  void collect(Throwable error) {
+    addLineNumberToErrorMessage(error);
+    store(error);
+  }
+
+  void store(Throwable error) {
+    errors.add(error);
+  }
+
+  LastResult lastResult() {
+    return lastResult;
   }
 
   private boolean isNestedErrorCollectorProxyCall() {
@@ -76,7 +102,59 @@ public class ErrorCollector implements MethodInterceptor {
     return nbCalls;
   }
 
-  private static class LastResult {
+  private static void addLineNumberToErrorMessage(Throwable error) {
+    StackTraceElement testStackTraceElement = getFirstStackTraceElementFromTest(error.getStackTrace());
+    if (testStackTraceElement == null) return;
+    if (error instanceof LazyMessageAssertionError) {
+      LazyMessageAssertionError lazyMessageError = (LazyMessageAssertionError) error;
+      lazyMessageError.decorateMessage(message -> buildErrorMessageWithLineNumber(message, testStackTraceElement));
+    } else {
+      changeErrorMessage(error, buildErrorMessageWithLineNumber(error.getMessage(), testStackTraceElement));
+    }
+  }
+
+  private static String buildErrorMessageWithLineNumber(String originalErrorMessage,
+                                                        StackTraceElement testStackTraceElement) {
+    String testClassName = simpleClassNameOf(testStackTraceElement);
+    String testName = testStackTraceElement.getMethodName();
+    int lineNumber = testStackTraceElement.getLineNumber();
+    return format("%s%nat %s.%s(%s.java:%s)", originalErrorMessage, testClassName, testName, testClassName, lineNumber);
+  }
+
+  private static void changeErrorMessage(Throwable error, String errorMessageWithLineNumber) {
+    try {
+      Field field = Throwable.class.getDeclaredField("detailMessage");
+      field.setAccessible(true);
+      field.set(error, errorMessageWithLineNumber);
+    } catch (Exception ignored) {}
+  }
+
+  private static String simpleClassNameOf(StackTraceElement testStackTraceElement) {
+    String className = testStackTraceElement.getClassName();
+    return className.substring(className.lastIndexOf('.') + 1);
+  }
+
+  private static StackTraceElement getFirstStackTraceElementFromTest(StackTraceElement[] stacktrace) {
+    for (StackTraceElement element : stacktrace) {
+      String className = element.getClassName();
+      if (className.startsWith("sun.reflect")
+          || className.startsWith("jdk.internal.reflect")
+          || className.startsWith("java.")
+          || className.startsWith("javax.")
+          || className.startsWith("org.junit.")
+          || className.startsWith("org.eclipse.jdt.internal.junit.")
+          || className.startsWith("org.eclipse.jdt.internal.junit4.")
+          || className.startsWith("org.apache.maven.surefire")
+          || className.startsWith("net.sf.cglib.proxy")
+          || className.startsWith("org.assertj")) {
+        continue;
+      }
+      return element;
+    }
+    return null;
+  }
+
+  static class LastResult {
     private boolean wasSuccess = true;
     private boolean errorFound = false;
 
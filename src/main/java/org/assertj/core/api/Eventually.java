@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.time.Duration;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Retries an assertion until it passes or a timeout expires, see
+ * {@link Assertions#eventually(Duration, ThrowingCallable)}.
+ * <p>
+ * The attempts run on the calling thread (which has to wait for the outcome anyway) so that they see the same thread
+ * bound state as the rest of the test, the waits between them grow exponentially from {@link #INITIAL_DELAY} up to
+ * {@link #MAX_DELAY} and never go past the timeout.
+ * <p>
+ * All attempts but the last one run in {@link Failures#probe(Object, java.util.function.Consumer) probe} mode, their
+ * failures are discarded without having captured a stack trace or formatted a message. The last attempt runs normally,
+ * its failure is the one reported.
+ */
+final class Eventually {
+
+  @VisibleForTesting
+  static final Duration INITIAL_DELAY = Duration.ofMillis(10);
+  @VisibleForTesting
+  static final Duration MAX_DELAY = Duration.ofSeconds(1);
+
+  private Eventually() {}
+
+  static void eventually(Duration timeout, ThrowingCallable assertion) {
+    checkNotNull(timeout, "The timeout should not be null");
+    checkArgument(!timeout.isNegative(), "The timeout should not be negative but was %s", timeout);
+    checkNotNull(assertion, "The assertion to retry should not be null");
+    long deadline = System.nanoTime() + timeout.toNanos();
+    long delay = INITIAL_DELAY.toNanos();
+    while (deadline - System.nanoTime() > 0) {
+      if (Failures.instance().probe(assertion, Eventually::attempt)) return;
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) break;
+      try {
+        NANOSECONDS.sleep(Math.min(delay, remaining));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      delay = Math.min(delay * 2, MAX_DELAY.toNanos());
+    }
+    // last attempt, its failure if any is the one reported
+    try {
+      assertion.call();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new RuntimeException(t);
+    }
+  }
+
+  private static void attempt(ThrowingCallable assertion) {
+    try {
+      assertion.call();
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable t) {
+      // the assertion could not be evaluated yet (e.g. the data is not there), this attempt failed as well
+      throw Failures.instance().failure(t::toString);
+    }
+  }
+}
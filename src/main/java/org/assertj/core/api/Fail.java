@@ -33,6 +33,18 @@ public final class Fail {
     Failures.instance().setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Sets the maximum number of elements kept in the assertion error stack trace when elements related to AssertJ are
+   * removed from it.
+   *
+   * @param maxStackTraceDepth the maximum number of stack trace elements to keep.
+   * @throws IllegalArgumentException if {@code maxStackTraceDepth} is negative.
+   * @since 3.10.0
+   */
+  public static void setMaxStackTraceDepth(int maxStackTraceDepth) {
+    Failures.instance().setMaxStackTraceDepth(maxStackTraceDepth);
+  }
+
   /**
    * Throws an {@link AssertionError} with the given message.
    * 
@@ -1289,6 +1289,55 @@ public class Java6Assertions {
     StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * In error messages, sets the maximum length of a single value representation (a {@code String}, an element of a
+   * collection, ...), the representations exceeding it are cut and followed by the number of omitted chars.
+   * <p>
+   * E.q. When this method is called with a value of {@code 10}:
+   * <pre><code class='java'> // formatted as "abcdefghi...(18 chars omitted)
+   * assertThat("abcdefghijklmnopqrstuvwxyz").isEmpty();</code></pre>
+   *
+   * @param maxLengthForPrintedValue the maximum length of a single value representation
+   * @since 3.10.0
+   */
+  public static void setMaxLengthForPrintedValue(int maxLengthForPrintedValue) {
+    StandardRepresentation.setMaxLengthForPrintedValue(maxLengthForPrintedValue);
+  }
+
+  /**
+   * Sets the maximum length of error messages, the messages exceeding it are cut while being formatted, this avoids
+   * building huge error messages when the values under test have huge representations.
+   *
+   * @param maxLengthForErrorMessage the maximum length of error messages
+   * @since 3.10.0
+   */
+  public static void setMaxLengthForErrorMessage(int maxLengthForErrorMessage) {
+    StandardRepresentation.setMaxLengthForErrorMessage(maxLengthForErrorMessage);
+  }
+
+  /**
+   * Sets the maximum number of errors described in the message of a {@link SoftAssertionError}, the errors beyond it are
+   * only counted, they are all still available with {@link SoftAssertionError#getErrors()}.
+   *
+   * @param maxErrorsInSoftAssertionMessage the maximum number of errors described in a soft assertion error message
+   * @since 3.10.0
+   */
+  public static void setMaxErrorsInSoftAssertionMessage(int maxErrorsInSoftAssertionMessage) {
+    SoftAssertionError.setMaxErrorsInMessage(maxErrorsInSoftAssertionMessage);
+  }
+
+  /**
+   * Sets the maximum number of elements kept in the assertion error stack trace when elements related to AssertJ are
+   * removed from it, this is useful to reduce the memory used by failures raised in bulk like soft assertions ones.
+   *
+   * @param maxStackTraceDepth the maximum number of stack trace elements to keep.
+   * @throws IllegalArgumentException if {@code maxStackTraceDepth} is negative.
+   * @since 3.10.0
+   */
+  public static void setMaxStackTraceDepth(int maxStackTraceDepth) {
+    Fail.setMaxStackTraceDepth(maxStackTraceDepth);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
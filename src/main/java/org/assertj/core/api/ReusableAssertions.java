@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+
+import org.assertj.core.util.CheckReturnValue;
+
+/**
+ * Assertions recycled per thread for tight assertion loops, like property based tests running millions of assertions.
+ * <p>
+ * {@link Assertions#assertThat(int) Assertions.assertThat} creates a new assertion object (and its
+ * {@link WritableAssertionInfo}) on each call. The {@code assertThat} methods of this class instead reset an assertion
+ * owned by the current thread in place and return it, so a passing assertion does not allocate anything besides the
+ * boxing of primitive values that the JVM does not cache.
+ * <p>
+ * Example:
+ * <pre><code class='java'> ReusableAssertions reusable = ReusableAssertions.forCurrentThread();
+ * for (int i = 0; i &lt; 100_000_000; i++) {
+ *   reusable.assertThat(generated[i]).isPositive()
+ *                                    .isLessThan(1000);
+ * }</code></pre>
+ * <p>
+ * As the returned assertion is reused by the next {@code assertThat} call of the same type on the same thread:
+ * <ul>
+ * <li>do not keep a reference to it once its assertion chain is done</li>
+ * <li>do not use the same {@code ReusableAssertions} in a nested assertion, e.g. in a {@code satisfies} consumer</li>
+ * <li>only use a {@code ReusableAssertions} on the thread that got it from {@link #forCurrentThread()}</li>
+ * </ul>
+ * Methods creating a new assertion, like {@code extracting} or {@code asString}, behave as with {@link Assertions}.
+ *
+ * @since 3.10.0
+ */
+public final class ReusableAssertions {
+
+  private static final ThreadLocal<ReusableAssertions> REUSABLE_ASSERTIONS = new ThreadLocal<ReusableAssertions>() {
+    @Override
+    protected ReusableAssertions initialValue() {
+      return new ReusableAssertions();
+    }
+  };
+
+  private final Thread owner = Thread.currentThread();
+  private final IntegerAssert integerAssert = new IntegerAssert(0);
+  private final LongAssert longAssert = new LongAssert(0L);
+  private final DoubleAssert doubleAssert = new DoubleAssert(0.0);
+  private final StringAssert stringAssert = new StringAssert(null);
+  private final ObjectAssert<Object> objectAssert = new ObjectAssert<>((Object) null);
+
+  private ReusableAssertions() {}
+
+  /**
+   * Returns the reusable assertions of the current thread.
+   *
+   * @return the reusable assertions of the current thread.
+   */
+  public static ReusableAssertions forCurrentThread() {
+    return REUSABLE_ASSERTIONS.get();
+  }
+
+  /**
+   * Resets the reusable <code>{@link IntegerAssert}</code> of this thread with the given actual value.
+   *
+   * @param actual the actual value.
+   * @return the reset assertion object.
+   * @throws IllegalStateException if called from another thread than the one owning this {@code ReusableAssertions}.
+   */
+  @CheckReturnValue
+  public AbstractIntegerAssert<?> assertThat(int actual) {
+    checkOwner();
+    return integerAssert.reset(actual);
+  }
+
+  /**
+   * Resets the reusable <code>{@link LongAssert}</code> of this thread with the given actual value.
+   *
+   * @param actual the actual value.
+   * @return the reset assertion object.
+   * @throws IllegalStateException if called from another thread than the one owning this {@code ReusableAssertions}.
+   */
+  @CheckReturnValue
+  public AbstractLongAssert<?> assertThat(long actual) {
+    checkOwner();
+    return longAssert.reset(actual);
+  }
+
+  /**
+   * Resets the reusable <code>{@link DoubleAssert}</code> of this thread with the given actual value.
+   *
+   * @param actual the actual value.
+   * @return the reset assertion object.
+   * @throws IllegalStateException if called from another thread than the one owning this {@code ReusableAssertions}.
+   */
+  @CheckReturnValue
+  public AbstractDoubleAssert<?> assertThat(double actual) {
+    checkOwner();
+    return doubleAssert.reset(actual);
+  }
+
+  /**
+   * Resets the reusable <code>{@link StringAssert}</code> of this thread with the given actual value.
+   *
+   * @param actual the actual value.
+   * @return the reset assertion object.
+   * @throws IllegalStateException if called from another thread than the one owning this {@code ReusableAssertions}.
+   */
+  @CheckReturnValue
+  public AbstractCharSequenceAssert<?, String> assertThat(String actual) {
+    checkOwner();
+    return stringAssert.reset(actual);
+  }
+
+  /**
+   * Resets the reusable <code>{@link ObjectAssert}</code> of this thread with the given actual value.
+   *
+   * @param actual the actual value.
+   * @return the reset assertion object.
+   * @throws IllegalStateException if called from another thread than the one owning this {@code ReusableAssertions}.
+   */
+  @CheckReturnValue
+  public AbstractObjectAssert<?, Object> assertThat(Object actual) {
+    checkOwner();
+    return objectAssert.reset(actual);
+  }
+
+  private void checkOwner() {
+    // not using Preconditions.checkState as its varargs would allocate on each call
+    if (Thread.currentThread() != owner) {
+      throw new IllegalStateException(format("ReusableAssertions of thread %s used from thread %s", owner.getName(),
+                                             Thread.currentThread().getName()));
+    }
+  }
+}
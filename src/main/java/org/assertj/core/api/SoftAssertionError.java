@@ -13,20 +13,27 @@
 package org.assertj.core.api;
 
 import java.util.List;
+import java.util.function.Supplier;
 
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.error.LazyMessageAssertionError;
 import org.assertj.core.error.MessageFormatter;
 
 /**
  * An AssertionError that contains the error messages of the one or more AssertionErrors that caused this exception to
  * be thrown.
+ * <p>
+ * The aggregated message is only built when it is first requested, it describes at most
+ * {@link #setMaxErrorsInMessage(int) maxErrorsInMessage} errors followed by the count of the other ones, all the error
+ * messages are available with {@link #getErrors()}.
  * 
  * @author Brian Laframboise
  * 
  */
-public class SoftAssertionError extends AssertionError {
+public class SoftAssertionError extends LazyMessageAssertionError {
   private static final long serialVersionUID = 5034494920024670595L;
+  private static final String LINE_SEPARATOR = org.assertj.core.util.Compatibility.System.lineSeparator();
   private final List<String> errors;
-  private static final MessageFormatter formatter = MessageFormatter.instance();
 
   /**
    * Creates a new SoftAssertionError.
@@ -34,12 +41,51 @@ public class SoftAssertionError extends AssertionError {
    * @param errors the causal AssertionError error messages in the order that they were thrown
    */
   public SoftAssertionError(List<String> errors) {
-    super(createMessage(errors));
+    super(messageSupplier(errors));
     this.errors = errors;
   }
 
-  private static String createMessage(List<String> errors) {
-    StringBuilder msg = new StringBuilder("%nThe following ");
+  private static Supplier<String> messageSupplier(List<String> errors) {
+    // the message is built with the configuration in effect when the error is created
+    Configuration configuration = Configuration.current();
+    return () -> createMessage(errors, configuration);
+  }
+
+  /**
+   * Sets the maximum number of errors described in the message of the {@link SoftAssertionError}s, the errors beyond it
+   * are only counted, for example with a value of 2:
+   * <pre><code class='java'> The following 4 assertions failed:
+   * 1) [Living Guests] expected:&lt;[7]&gt; but was:&lt;[6]&gt;
+   * 2) [Library] expected:&lt;'[clean]'&gt; but was:&lt;'[messy]'&gt;
+   * ... and 2 more assertions failed</code></pre>
+   * <p>
+   * The default value is {@link Integer#MAX_VALUE}, i.e. all the errors are described.
+   * <p>
+   * This updates the {@link Configuration#global() global} configuration.
+   *
+   * @param value the maximum number of errors described in the message.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   * @since 3.10.0
+   */
+  public static void setMaxErrorsInMessage(int value) {
+    Configuration.updateGlobal(configuration -> configuration.withMaxErrorsInSoftAssertionMessage(value));
+  }
+
+  /**
+   * Returns the maximum number of errors described in the message of the {@link SoftAssertionError}s by the
+   * {@link Configuration#current() current} configuration.
+   *
+   * @return the maximum number of errors described in the message.
+   * @since 3.10.0
+   */
+  public static int getMaxErrorsInMessage() {
+    return Configuration.current().maxErrorsInSoftAssertionMessage();
+  }
+
+  private static String createMessage(List<String> errors, Configuration configuration) {
+    // the messages are appended as they are, they must not go through String.format as they may contain '%'
+    int maxLength = configuration.maxLengthForErrorMessage();
+    StringBuilder msg = new StringBuilder(LINE_SEPARATOR).append("The following ");
     int size = errors.size();
 
     if (size == 1) {
@@ -47,12 +93,19 @@ public class SoftAssertionError extends AssertionError {
     } else {
       msg.append(size).append(" assertions");
     }
-    msg.append(" failed:%n");
+    msg.append(" failed:").append(LINE_SEPARATOR);
 
-    for (int i = 0; i < size; i++) {
-      msg.append(i + 1).append(") ").append(errors.get(i)).append("%n");
+    int describedErrors = Math.min(size, configuration.maxErrorsInSoftAssertionMessage());
+    for (int i = 0; i < describedErrors && msg.length() <= maxLength; i++) {
+      msg.append(i + 1).append(") ").append(errors.get(i)).append(LINE_SEPARATOR);
+    }
+    int otherErrors = size - describedErrors;
+    if (otherErrors > 0) {
+      msg.append("... and ").append(otherErrors).append(otherErrors == 1 ? " more assertion" : " more assertions")
+         .append(" failed").append(LINE_SEPARATOR);
     }
-    return formatter.format(null,null,msg.toString());
+    MessageFormatter.cutToMaxLength(msg, maxLength);
+    return msg.toString();
   }
 
   /**
@@ -148,6 +148,12 @@ public class SoftAssertions extends AbstractStandardSoftAssertions {
     }
   };
 
+  public SoftAssertions() {}
+
+  SoftAssertions(ErrorCollector collector) {
+    super(collector);
+  }
+
   /**
    * Verifies that no proxied assertion methods have failed.
    *
@@ -38,14 +38,24 @@ public class WritableAssertionInfo implements AssertionInfo {
   private static final String EMPTY_STRING = "";
   private String overridingErrorMessage;
   private Description description;
+  // null until a representation is set, the default one is only looked up when needed (usually to build an error)
   private Representation representation;
 
   public WritableAssertionInfo(Representation customRepresentation) {
-    useRepresentation(customRepresentation == null ? CONFIGURATION_PROVIDER.representation() : customRepresentation);
+    representation = customRepresentation;
   }
 
-  public WritableAssertionInfo() {
-    useRepresentation(CONFIGURATION_PROVIDER.representation());
+  public WritableAssertionInfo() {}
+
+  /**
+   * Resets this info to the state of a new info created with the given custom representation.
+   *
+   * @param customRepresentation the custom representation to use, {@code null} to use the default one.
+   */
+  void reset(Representation customRepresentation) {
+    overridingErrorMessage = null;
+    description = null;
+    representation = customRepresentation;
   }
 
   /**
@@ -119,7 +129,7 @@ public class WritableAssertionInfo implements AssertionInfo {
    */
   @Override
   public Representation representation() {
-    return representation;
+    return representation == null ? CONFIGURATION_PROVIDER.representation() : representation;
   }
 
   public void useHexadecimalRepresentation() {
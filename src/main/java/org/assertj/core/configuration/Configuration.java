@@ -0,0 +1,411 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.configuration;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.assertj.core.presentation.Representation;
+
+/**
+ * Immutable snapshot of the AssertJ settings that affect how assertions are evaluated and reported: the custom
+ * {@link Representation}, the representation limits, the formatters registered per type, the stack trace filtering
+ * and depth, the lenient date parsing and the number of errors described in soft assertion error messages.
+ * <p>
+ * The settings in effect are the ones of {@link #current()}: the configuration {@link #install() installed} on the
+ * current thread if any, the {@link #global() global} one otherwise. The static setters like
+ * {@code Assertions.setMaxElementsForPrinting} update the global configuration, which is shared by all threads.
+ * <p>
+ * Installing a configuration on a thread lets tests running in parallel in the same JVM use different settings without
+ * racing on the global ones:
+ * <pre><code class='java'> Configuration configuration = Configuration.defaults()
+ *                                           .withMaxElementsForPrinting(10)
+ *                                           .withFormatterForType(Long.class, value -&gt; "$" + value + "$");
+ *
+ * try (Configuration.Scope scope = configuration.install()) {
+ *   // assertions run by this thread use the installed configuration
+ *   assertThat(123L).isEqualTo(456L);
+ * }
+ * // back to the previous configuration of the thread</code></pre>
+ * <p>
+ * An installed configuration is confined to the thread that installed it, it is not seen by the threads this thread
+ * starts or submits tasks to.
+ * <p>
+ * Reading the current configuration takes no lock, it is a volatile read plus, once a configuration has been installed
+ * on any thread, a thread local lookup.
+ *
+ * @since 3.10.0
+ */
+public final class Configuration {
+
+  private static final Configuration DEFAULTS = new Configuration(new Builder());
+
+  private static final AtomicReference<Configuration> GLOBAL = new AtomicReference<>(DEFAULTS);
+
+  // innermost scope installed on each thread
+  private static final ThreadLocal<Scope> INSTALLED = new ThreadLocal<>();
+
+  // spares the thread local lookup as long as no configuration has been installed
+  private static volatile boolean installedOnAnyThread = false;
+
+  private final Representation customRepresentation;
+  private final int maxLengthForSingleLineDescription;
+  private final int maxElementsForPrinting;
+  private final int maxLengthForPrintedValue;
+  private final int maxLengthForErrorMessage;
+  private final Map<Class<?>, Function<?, String>> formatterByType;
+  private final boolean removeAssertJRelatedElementsFromStackTrace;
+  private final boolean lenientDateParsing;
+  private final int maxStackTraceDepth;
+  private final int maxErrorsInSoftAssertionMessage;
+
+  private Configuration(Builder builder) {
+    this.customRepresentation = builder.customRepresentation;
+    this.maxLengthForSingleLineDescription = builder.maxLengthForSingleLineDescription;
+    this.maxElementsForPrinting = builder.maxElementsForPrinting;
+    this.maxLengthForPrintedValue = builder.maxLengthForPrintedValue;
+    this.maxLengthForErrorMessage = builder.maxLengthForErrorMessage;
+    this.formatterByType = builder.formatterByType;
+    this.removeAssertJRelatedElementsFromStackTrace = builder.removeAssertJRelatedElementsFromStackTrace;
+    this.lenientDateParsing = builder.lenientDateParsing;
+    this.maxStackTraceDepth = builder.maxStackTraceDepth;
+    this.maxErrorsInSoftAssertionMessage = builder.maxErrorsInSoftAssertionMessage;
+  }
+
+  /**
+   * Returns the configuration with the default settings.
+   *
+   * @return the configuration with the default settings.
+   */
+  public static Configuration defaults() {
+    return DEFAULTS;
+  }
+
+  /**
+   * Returns the global configuration, used by the threads on which no configuration is installed.
+   *
+   * @return the global configuration.
+   */
+  public static Configuration global() {
+    return GLOBAL.get();
+  }
+
+  /**
+   * Atomically replaces the global configuration by the result of the given update applied to it.
+   *
+   * @param update computes the new global configuration from the current one.
+   * @return the new global configuration.
+   */
+  public static Configuration updateGlobal(UnaryOperator<Configuration> update) {
+    return GLOBAL.updateAndGet(update);
+  }
+
+  /**
+   * Returns the configuration in effect on the current thread: the one {@link #install() installed} on it if any,
+   * the {@link #global() global} one otherwise.
+   *
+   * @return the configuration in effect on the current thread.
+   */
+  public static Configuration current() {
+    if (installedOnAnyThread) {
+      Scope installed = INSTALLED.get();
+      if (installed != null) return installed.configuration;
+    }
+    return GLOBAL.get();
+  }
+
+  /**
+   * Installs this configuration on the current thread until the returned {@link Scope} is closed, closing it restores
+   * the configuration that was installed before, if any.
+   * <p>
+   * The scope must be closed by the current thread, after the scopes installed within it.
+   *
+   * @return the scope of the installed configuration.
+   */
+  public Scope install() {
+    Scope scope = new Scope(this, INSTALLED.get());
+    installedOnAnyThread = true;
+    INSTALLED.set(scope);
+    return scope;
+  }
+
+  public Representation customRepresentation() {
+    return customRepresentation;
+  }
+
+  public int maxLengthForSingleLineDescription() {
+    return maxLengthForSingleLineDescription;
+  }
+
+  public int maxElementsForPrinting() {
+    return maxElementsForPrinting;
+  }
+
+  public int maxLengthForPrintedValue() {
+    return maxLengthForPrintedValue;
+  }
+
+  public int maxLengthForErrorMessage() {
+    return maxLengthForErrorMessage;
+  }
+
+  /**
+   * Returns the formatter registered for the given type, or {@code null} if there is none.
+   *
+   * @param type the type to get the formatter for.
+   * @return the formatter registered for the given type, or {@code null} if there is none.
+   */
+  public Function<?, String> formatterForType(Class<?> type) {
+    return formatterByType.get(type);
+  }
+
+  public boolean hasFormatters() {
+    return !formatterByType.isEmpty();
+  }
+
+  public boolean removeAssertJRelatedElementsFromStackTrace() {
+    return removeAssertJRelatedElementsFromStackTrace;
+  }
+
+  public boolean lenientDateParsing() {
+    return lenientDateParsing;
+  }
+
+  public int maxStackTraceDepth() {
+    return maxStackTraceDepth;
+  }
+
+  public int maxErrorsInSoftAssertionMessage() {
+    return maxErrorsInSoftAssertionMessage;
+  }
+
+  /**
+   * Returns a copy of this configuration using the given {@link Representation}, {@code null} meaning the default one.
+   *
+   * @param customRepresentation the {@code Representation} to use.
+   * @return a copy of this configuration using the given {@code Representation}.
+   */
+  public Configuration withCustomRepresentation(Representation customRepresentation) {
+    return with(builder -> builder.customRepresentation = customRepresentation);
+  }
+
+  /**
+   * Returns a copy of this configuration with the given maximum length for an iterable/array to be displayed on one
+   * line.
+   *
+   * @param value the maximum length for an iterable/array to be displayed on one line.
+   * @return a copy of this configuration with the given maximum length.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   */
+  public Configuration withMaxLengthForSingleLineDescription(int value) {
+    checkArgument(value > 0, "maxLengthForSingleLineDescription must be > 0 but was %s", value);
+    return with(builder -> builder.maxLengthForSingleLineDescription = value);
+  }
+
+  /**
+   * Returns a copy of this configuration with the given maximum number of elements printed from one iterable/array/map.
+   *
+   * @param value the maximum number of elements printed from one iterable/array/map.
+   * @return a copy of this configuration with the given maximum number of elements.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   */
+  public Configuration withMaxElementsForPrinting(int value) {
+    checkArgument(value >= 1, "maxElementsForPrinting must be >= 1, but was %s", value);
+    return with(builder -> builder.maxElementsForPrinting = value);
+  }
+
+  /**
+   * Returns a copy of this configuration with the given maximum length of a single value representation.
+   *
+   * @param value the maximum length of a single value representation.
+   * @return a copy of this configuration with the given maximum length.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   */
+  public Configuration withMaxLengthForPrintedValue(int value) {
+    checkArgument(value >= 1, "maxLengthForPrintedValue must be >= 1, but was %s", value);
+    return with(builder -> builder.maxLengthForPrintedValue = value);
+  }
+
+  /**
+   * Returns a copy of this configuration with the given maximum length of error messages.
+   *
+   * @param value the maximum length of error messages.
+   * @return a copy of this configuration with the given maximum length.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   */
+  public Configuration withMaxLengthForErrorMessage(int value) {
+    checkArgument(value >= 1, "maxLengthForErrorMessage must be >= 1, but was %s", value);
+    return with(builder -> builder.maxLengthForErrorMessage = value);
+  }
+
+  /**
+   * Returns a copy of this configuration with the given formatter registered for the given type, replacing the one
+   * previously registered for it if any.
+   *
+   * @param <T> the type to register a formatter for.
+   * @param type the class of the type to register a formatter for.
+   * @param formatter the formatter.
+   * @return a copy of this configuration with the given formatter registered.
+   */
+  public <T> Configuration withFormatterForType(Class<T> type, Function<T, String> formatter) {
+    checkNotNull(type, "The type to register a formatter for should not be null");
+    checkNotNull(formatter, "The formatter should not be null");
+    Map<Class<?>, Function<?, String>> formatters = new HashMap<>(formatterByType);
+    formatters.put(type, formatter);
+    return with(builder -> builder.formatterByType = unmodifiableMap(formatters));
+  }
+
+  /**
+   * Returns a copy of this configuration without any formatter registered per type.
+   *
+   * @return a copy of this configuration without any formatter registered per type.
+   */
+  public Configuration withoutFormatters() {
+    return with(builder -> builder.formatterByType = emptyMap());
+  }
+
+  /**
+   * Returns a copy of this configuration which removes or not the AssertJ related elements from the stack trace of
+   * the assertion errors.
+   *
+   * @param value whether to remove the AssertJ related elements from the assertion errors stack trace.
+   * @return a copy of this configuration with the given stack trace filtering.
+   */
+  public Configuration withRemoveAssertJRelatedElementsFromStackTrace(boolean value) {
+    return with(builder -> builder.removeAssertJRelatedElementsFromStackTrace = value);
+  }
+
+  /**
+   * Returns a copy of this configuration using or not lenient parsing for the default date formats of the
+   * {@code String} based {@code Date} assertions.
+   *
+   * @param value whether to use lenient date parsing.
+   * @return a copy of this configuration with the given date parsing mode.
+   */
+  public Configuration withLenientDateParsing(boolean value) {
+    return with(builder -> builder.lenientDateParsing = value);
+  }
+
+  /**
+   * Returns a copy of this configuration with the given maximum number of elements kept in the stack trace of the
+   * assertion errors when the AssertJ related elements are removed from it.
+   *
+   * @param value the maximum number of stack trace elements to keep.
+   * @return a copy of this configuration with the given maximum stack trace depth.
+   * @throws IllegalArgumentException if the given value is negative.
+   */
+  public Configuration withMaxStackTraceDepth(int value) {
+    checkArgument(value >= 0, "The maximum stack trace depth should not be negative but was %s", value);
+    return with(builder -> builder.maxStackTraceDepth = value);
+  }
+
+  /**
+   * Returns a copy of this configuration with the given maximum number of errors described in the message of the
+   * soft assertion errors.
+   *
+   * @param value the maximum number of errors described in a soft assertion error message.
+   * @return a copy of this configuration with the given maximum number of errors.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   */
+  public Configuration withMaxErrorsInSoftAssertionMessage(int value) {
+    checkArgument(value >= 1, "maxErrorsInMessage must be >= 1, but was %s", value);
+    return with(builder -> builder.maxErrorsInSoftAssertionMessage = value);
+  }
+
+  private Configuration with(Consumer<Builder> change) {
+    Builder builder = new Builder(this);
+    change.accept(builder);
+    return new Configuration(builder);
+  }
+
+  /**
+   * Mutable copy of the settings a wither changes before building the new configuration, its fields are initialized
+   * to the default settings.
+   */
+  private static final class Builder {
+
+    private Representation customRepresentation = null;
+    private int maxLengthForSingleLineDescription = 80;
+    private int maxElementsForPrinting = 1000;
+    private int maxLengthForPrintedValue = Integer.MAX_VALUE;
+    private int maxLengthForErrorMessage = Integer.MAX_VALUE;
+    private Map<Class<?>, Function<?, String>> formatterByType = emptyMap();
+    private boolean removeAssertJRelatedElementsFromStackTrace = true;
+    private boolean lenientDateParsing = false;
+    private int maxStackTraceDepth = Integer.MAX_VALUE;
+    private int maxErrorsInSoftAssertionMessage = Integer.MAX_VALUE;
+
+    private Builder() {}
+
+    private Builder(Configuration configuration) {
+      customRepresentation = configuration.customRepresentation;
+      maxLengthForSingleLineDescription = configuration.maxLengthForSingleLineDescription;
+      maxElementsForPrinting = configuration.maxElementsForPrinting;
+      maxLengthForPrintedValue = configuration.maxLengthForPrintedValue;
+      maxLengthForErrorMessage = configuration.maxLengthForErrorMessage;
+      formatterByType = configuration.formatterByType;
+      removeAssertJRelatedElementsFromStackTrace = configuration.removeAssertJRelatedElementsFromStackTrace;
+      lenientDateParsing = configuration.lenientDateParsing;
+      maxStackTraceDepth = configuration.maxStackTraceDepth;
+      maxErrorsInSoftAssertionMessage = configuration.maxErrorsInSoftAssertionMessage;
+    }
+  }
+
+  /**
+   * Scope of a configuration {@link Configuration#install() installed} on a thread, closing it restores the
+   * configuration that was installed before.
+   * <p>
+   * A scope must be closed by the thread that installed it and after the scopes installed within it, otherwise closing
+   * it fails with an {@link IllegalStateException} and leaves the installed configuration unchanged. Closing a scope
+   * more than once has no effect.
+   */
+  public static final class Scope implements AutoCloseable {
+
+    private final Configuration configuration;
+    private final Scope previous;
+    private final Thread owner;
+    private boolean closed;
+
+    private Scope(Configuration configuration, Scope previous) {
+      this.configuration = configuration;
+      this.previous = previous;
+      this.owner = Thread.currentThread();
+    }
+
+    @Override
+    public void close() {
+      if (Thread.currentThread() != owner) {
+        throw new IllegalStateException(format("A configuration scope must be closed by the thread that installed it"
+                                               + " (%s) but was closed by %s",
+                                               owner.getName(), Thread.currentThread().getName()));
+      }
+      if (closed) return;
+      if (INSTALLED.get() != this) {
+        throw new IllegalStateException("A configuration scope must be closed after the scopes installed within it");
+      }
+      closed = true;
+      if (previous == null) INSTALLED.remove();
+      else INSTALLED.set(previous);
+    }
+  }
+}
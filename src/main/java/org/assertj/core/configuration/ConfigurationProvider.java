@@ -28,17 +28,22 @@ public final class ConfigurationProvider {
 
   public static final ConfigurationProvider CONFIGURATION_PROVIDER = new ConfigurationProvider();
 
-  private final Representation defaultRepresentation;
-
-  private ConfigurationProvider() {
-    defaultRepresentation = Services.get(Representation.class, STANDARD_REPRESENTATION);
-  }
+  private ConfigurationProvider() {}
 
   /**
    * @return the default {@link Representation} that needs to be used within AssertJ
    * @since 2.9.0 / 3.9.0
    */
   public Representation representation() {
-    return defaultRepresentation;
+    return DefaultRepresentationHolder.DEFAULT_REPRESENTATION;
+  }
+
+  /**
+   * Lazy holder of the default representation, the classpath is only scanned for a {@link Representation} service the
+   * first time it is needed, usually when the first assertion error message is built.
+   */
+  private static class DefaultRepresentationHolder {
+    private static final Representation DEFAULT_REPRESENTATION = Services.get(Representation.class,
+                                                                              STANDARD_REPRESENTATION);
   }
 }
@@ -12,32 +12,65 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.String.format;
+
 import java.lang.reflect.*;
 import java.security.*;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Access to constructors using Java reflection.
+ * <p>
+ * Constructors are resolved once, the resolved constructor or the fact that it could not be found is cached; since this
+ * class is loaded once per class loader, so is the cache.
  * 
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 class ConstructorInvoker {
 
+  private static final Map<ConstructorSignature, Optional<Constructor<?>>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
   Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) throws Exception {
-    Class<?> targetType = Class.forName(className);
-    Constructor<?> constructor = targetType.getConstructor(parameterTypes);
-    boolean accessible = constructor.isAccessible();
+    Optional<Constructor<?>> constructor = constructor(className, parameterTypes);
+    if (!constructor.isPresent())
+      throw new NoSuchMethodException(format("No public constructor with parameter types %s available for %s",
+                                             Arrays.toString(parameterTypes), className));
+    return constructor.get().newInstance(parameterValues);
+  }
+
+  /**
+   * Returns whether the given class can be instantiated with the constructor having the given parameter types, that is
+   * whether the class is in the classpath and has such a public constructor.
+   *
+   * @param className the fully qualified name of the class to instantiate.
+   * @param parameterTypes the parameter types of the constructor to use.
+   * @return whether the given class can be instantiated with the constructor having the given parameter types.
+   */
+  boolean canInstantiate(String className, Class<?>[] parameterTypes) {
+    return constructor(className, parameterTypes).isPresent();
+  }
+
+  private static Optional<Constructor<?>> constructor(String className, Class<?>[] parameterTypes) {
+    return CONSTRUCTORS.computeIfAbsent(new ConstructorSignature(className, parameterTypes),
+                                        ConstructorInvoker::resolveConstructor);
+  }
+
+  private static Optional<Constructor<?>> resolveConstructor(ConstructorSignature signature) {
     try {
+      Constructor<?> constructor = Class.forName(signature.className).getConstructor(signature.parameterTypes);
+      // the cached constructor is never exposed, it can be left accessible.
       setAccessible(constructor, true);
-      return constructor.newInstance(parameterValues);
-    } finally {
-      try {
-        setAccessible(constructor, accessible);
-      } catch (RuntimeException e) {}
+      return Optional.of(constructor);
+    } catch (ClassNotFoundException | NoSuchMethodException | LinkageError | SecurityException e) {
+      return Optional.empty();
     }
   }
 
-  private void setAccessible(AccessibleObject accessible, boolean value) {
+  private static void setAccessible(AccessibleObject accessible, boolean value) {
     AccessController.doPrivileged(new SetAccessibleValueAction(accessible, value));
   }
 
@@ -56,4 +89,27 @@ class ConstructorInvoker {
       return null;
     }
   }
+
+  private static final class ConstructorSignature {
+    private final String className;
+    private final Class<?>[] parameterTypes;
+
+    private ConstructorSignature(String className, Class<?>[] parameterTypes) {
+      this.className = className;
+      this.parameterTypes = parameterTypes;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof ConstructorSignature)) return false;
+      ConstructorSignature other = (ConstructorSignature) obj;
+      return className.equals(other.className) && Arrays.equals(parameterTypes, other.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * className.hashCode() + Arrays.hashCode(parameterTypes);
+    }
+  }
 }
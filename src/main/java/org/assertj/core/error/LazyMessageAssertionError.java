@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * An {@link AssertionError} whose detail message is only built the first time it is requested.
+ * <p>
+ * Formatting an error message can be expensive as it involves building the representation of the actual and expected
+ * values, this error defers it until {@link #getMessage()} is called (directly or through {@link #toString()} or
+ * stack trace printing), which never happens for errors that are discarded like the ones of a failed
+ * {@code anySatisfy} requirement.
+ * <p>
+ * Once built, the message is cached so that it is only formatted once. Since it is built lazily, the values involved
+ * in the failed assertion are formatted with the state they have when the message is first requested: errors created
+ * by {@link org.assertj.core.internal.Failures Failures} capture the
+ * {@link org.assertj.core.configuration.Configuration Configuration} and representation in effect when they are
+ * created, and error message factories snapshot the arguments whose representation can change (like a future that
+ * completes later).
+ *
+ * @since 3.10.0
+ */
+public class LazyMessageAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient Supplier<String> messageSupplier;
+  private String message;
+
+  /**
+   * Creates a new <code>{@link LazyMessageAssertionError}</code>.
+   *
+   * @param messageSupplier builds the detail message the first time it is requested.
+   * @throws NullPointerException if the given supplier is {@code null}.
+   */
+  public LazyMessageAssertionError(Supplier<String> messageSupplier) {
+    this.messageSupplier = checkNotNull(messageSupplier, "The message supplier should not be null");
+  }
+
+  /**
+   * Returns the detail message, building it if it is the first time it is requested.
+   *
+   * @return the detail message.
+   */
+  @Override
+  public synchronized String getMessage() {
+    if (messageSupplier != null) {
+      message = messageSupplier.get();
+      messageSupplier = null;
+    }
+    return message;
+  }
+
+  /**
+   * Applies the given function to the detail message when it is built, or right away if it has already been built.
+   * <p>
+   * This allows adding information to the message (like soft assertions do with the line of the test that failed)
+   * without building it.
+   *
+   * @param decorator the function to apply to the detail message.
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  public synchronized void decorateMessage(UnaryOperator<String> decorator) {
+    checkNotNull(decorator, "The message decorator should not be null");
+    if (messageSupplier == null) {
+      message = decorator.apply(message);
+      return;
+    }
+    Supplier<String> undecoratedMessageSupplier = messageSupplier;
+    messageSupplier = () -> decorator.apply(undecoratedMessageSupplier.get());
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    // the supplier is not serializable, the message must be built before writing it.
+    getMessage();
+    out.defaultWriteObject();
+  }
+}
@@ -18,6 +18,7 @@ import static org.assertj.core.util.Strings.formatIfArgs;
 import org.assertj.core.description.Description;
 import org.assertj.core.internal.AbstractComparisonStrategy;
 import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
@@ -26,6 +27,7 @@ import org.assertj.core.util.VisibleForTesting;
  * @author Alex Ruiz
  */
 public class MessageFormatter {
+  private static final String LINE_SEPARATOR = org.assertj.core.util.Compatibility.System.lineSeparator();
   private static final MessageFormatter INSTANCE = new MessageFormatter();
 
   public static MessageFormatter instance() {
@@ -59,7 +61,63 @@ public class MessageFormatter {
   public String format(Description d, Representation p, String format, Object... args) {
     checkNotNull(format);
     checkNotNull(args);
-    return descriptionFormatter.format(d) + formatIfArgs(format, format(p, args));
+    String description = descriptionFormatter.format(d);
+    if (args.length != 0) {
+      StringBuilder message = new StringBuilder(description.length() + format.length() + 16 * args.length);
+      if (appendFormatted(message.append(description), p, format, args)) return message.toString();
+    }
+    StringBuilder message = new StringBuilder(description).append(formatIfArgs(format, format(p, args)));
+    cutToMaxLengthForErrorMessage(message);
+    return message.toString();
+  }
+
+  /**
+   * Appends the given format with its {@code %s} specifiers replaced by the arguments representation, appended
+   * directly to the message instead of being converted to {@code String}s and handed over to {@link String#format}.
+   * <p>
+   * Returns {@code false} if the format uses other specifiers than {@code %s}, {@code %n} and {@code %%} or has more
+   * {@code %s} specifiers than arguments, the message must then be formatted with {@link String#format}.
+   * <p>
+   * Formatting stops as soon as the message exceeds {@link StandardRepresentation#getMaxLengthForErrorMessage()}.
+   */
+  private boolean appendFormatted(StringBuilder message, Representation p, String format, Object[] args) {
+    int maxLength = StandardRepresentation.getMaxLengthForErrorMessage();
+    int argIndex = 0;
+    int length = format.length();
+    for (int i = 0; i < length; i++) {
+      char c = format.charAt(i);
+      if (c != '%') {
+        message.append(c);
+        continue;
+      }
+      if (++i == length) return false;
+      char conversion = format.charAt(i);
+      if (conversion == 's' && argIndex < args.length) {
+        if (!appendText(message, p, args[argIndex++], maxLength - message.length())) break;
+      } else if (conversion == 'n') message.append(LINE_SEPARATOR);
+      else if (conversion == '%') message.append('%');
+      else return false;
+    }
+    cutToMaxLengthForErrorMessage(message);
+    return true;
+  }
+
+  static void cutToMaxLengthForErrorMessage(StringBuilder message) {
+    cutToMaxLength(message, StandardRepresentation.getMaxLengthForErrorMessage());
+  }
+
+  /**
+   * Cuts the given error message to the given maximum length if it exceeds it, the cut message is followed by a marker
+   * telling where it was cut.
+   *
+   * @param message the error message to cut.
+   * @param maxLength the maximum length of the error message.
+   * @since 3.10.0
+   */
+  public static void cutToMaxLength(StringBuilder message, int maxLength) {
+    if (message.length() <= maxLength) return;
+    message.setLength(maxLength);
+    message.append("...(error message cut at ").append(maxLength).append(" chars)");
   }
 
   private Object[] format(Representation p, Object[] args) {
@@ -71,6 +129,12 @@ public class MessageFormatter {
     return formatted;
   }
 
+  private boolean appendText(StringBuilder message, Representation p, Object o, int budget) {
+    if (!(o instanceof AbstractComparisonStrategy)) return p.appendTo(message, o, budget);
+    message.append(((AbstractComparisonStrategy) o).asText());
+    return true;
+  }
+
   private String asText(Representation p, Object o) {
     if (o instanceof AbstractComparisonStrategy) {
       return ((AbstractComparisonStrategy) o).asText();
@@ -23,6 +23,7 @@ import org.assertj.core.internal.ComparisonStrategy;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.StandardComparisonStrategy;
 import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
@@ -42,6 +43,8 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   private static final String EXPECTED_BUT_WAS_MESSAGE = "%nExpecting:%n <%s>%nto be equal to:%n <%s>%nbut was not.";
   private static final String EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR = "%nExpecting:%n <%s>%nto be equal to:%n " +
                                                                           "<%s>%n%s%nbut was not.";
+  private static final String COMPARISON_FAILURE_CLASS_NAME = "org.junit.ComparisonFailure";
+  private static final String ASSERTION_FAILED_ERROR_CLASS_NAME = "org.opentest4j.AssertionFailedError";
   private static final Class<?>[] MSG_ARG_TYPES = array(String.class, String.class, String.class);
   private static final Class<?>[] MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR = array(String.class, Object.class,
                                                                                    Object.class);
@@ -50,7 +53,7 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   @VisibleForTesting
   final MessageFormatter messageFormatter = MessageFormatter.instance();
   private final ComparisonStrategy comparisonStrategy;
-  private Representation representation;
+  private final Representation representation;
   @VisibleForTesting
   ConstructorInvoker constructorInvoker = new ConstructorInvoker();
   @VisibleForTesting
@@ -115,35 +118,72 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   public AssertionError newAssertionError(Description description, Representation representation) {
     // only use JUnit error message if the comparison strategy used was standard, otherwise we need to mention
     // comparison strategy in the assertion error message to make it clear to the user it was used.
-    if (comparisonStrategy.isStandard() && !actualAndExpectedHaveSameStringRepresentation()) {
-      // comparison strategy is standard -> try to build a JUnit ComparisonFailure that is nicely displayed in IDEs.
-      AssertionError error = comparisonFailure(description);
-      // error != null means that JUnit 4 was in the classpath and we were to build a ComparisonFailure.
-      if (error != null) return error;
+    boolean comparisonFailureAllowed = comparisonStrategy.isStandard() && canCreateComparisonFailure();
+    boolean assertionFailedErrorAllowed = canCreateAssertionFailedError();
+    if (comparisonFailureAllowed || assertionFailedErrorAllowed) {
+      // actual and expected representations are computed once as they are used several times to build the error.
+      String actualAsString = toStringCutToMaxLengthForErrorMessage(actual);
+      String expectedAsString = toStringCutToMaxLengthForErrorMessage(expected);
+      boolean sameStringRepresentation = haveSameStringRepresentation(actualAsString, expectedAsString);
+      if (comparisonFailureAllowed && !sameStringRepresentation) {
+        // comparison strategy is standard -> try to build a JUnit ComparisonFailure that is nicely displayed in IDEs.
+        AssertionError error = comparisonFailure(description, expectedAsString, actualAsString);
+        // error != null means that JUnit 4 was in the classpath and we were to build a ComparisonFailure.
+        if (error != null) return error;
+      }
+      if (assertionFailedErrorAllowed) {
+        String message = smartErrorMessage(description, representation, sameStringRepresentation);
+        AssertionError assertionFailedError = assertionFailedError(message, expectedAsString, actualAsString);
+        if (assertionFailedError != null) return assertionFailedError;
+      }
     }
-    String message = smartErrorMessage(description, representation);
-    AssertionError assertionFailedError = assertionFailedError(message);
-    if (assertionFailedError != null) return assertionFailedError;
-    // No JUnit in the classpath => fall back to default error message
-    return Failures.instance().failure(message);
+    // No JUnit in the classpath => fall back to default error message, built only if it is requested
+    return Failures.instance().failure(() -> smartErrorMessage(description, representation,
+                                                               actualAndExpectedHaveSameStringRepresentation()));
   }
 
   private boolean actualAndExpectedHaveSameStringRepresentation() {
-    return areEqual(representation.toStringOf(actual), representation.toStringOf(expected));
+    return haveSameStringRepresentation(toStringCutToMaxLengthForErrorMessage(actual),
+                                        toStringCutToMaxLengthForErrorMessage(expected));
+  }
+
+  // a null representation is printed as "null" like the one of an object whose toString returns null
+  private static boolean haveSameStringRepresentation(String actualAsString, String expectedAsString) {
+    return String.valueOf(actualAsString).equals(String.valueOf(expectedAsString));
+  }
+
+  // the representations given to ComparisonFailure/AssertionFailedError are cut like the error message
+  private String toStringCutToMaxLengthForErrorMessage(Object value) {
+    // the representation of null is kept as it is, ComparisonFailure shows a null string differently from "null"
+    if (value == null) return representation.toStringOf(null);
+    StringBuilder buffer = new StringBuilder();
+    if (!representation.appendTo(buffer, value, StandardRepresentation.getMaxLengthForErrorMessage())) {
+      MessageFormatter.cutToMaxLengthForErrorMessage(buffer);
+    }
+    return buffer.toString();
+  }
+
+  // AssertionFailedError keeps the toString of the values, huge values are replaced by their cut representation
+  private Object assertionFailedErrorPayload(Object value, String valueAsString) {
+    return valueAsString != null && valueAsString.length() > StandardRepresentation.getMaxLengthForErrorMessage()
+        ? valueAsString
+        : value;
   }
 
   /**
    * Builds and returns an error message from the given description using {@link #expected} and {@link #actual} basic
-   * representation if their description differ otherwise use 
-   * {@link #defaultDetailedErrorMessage(Description, Representation)} to represent them differently.
+   * representation if their description differ otherwise their {@link #detailedExpected()} and
+   * {@link #detailedActual()} detailed representation to represent them differently.
    *
    * @param description the {@link Description} used to build the returned error message
    * @param representation the {@link org.assertj.core.presentation.Representation} used to build String representation
    *          of object
    * @return the error message from description using {@link #expected} and {@link #actual} "smart" representation.
    */
-  private String smartErrorMessage(Description description, Representation representation) {
-    if (actualAndExpectedHaveSameStringRepresentation()) {
+  private String smartErrorMessage(Description description, Representation representation,
+                                   boolean sameStringRepresentation) {
+    Object[] arguments;
+    if (sameStringRepresentation) {
       // This happens for example when actual = 42f and expected = 42d, which will give this error:
       // actual : "42" and expected : "42".
       // JUnit 4 manages this case even worst, it will output something like :
@@ -151,40 +191,34 @@ public class ShouldBeEqual implements AssertionErrorFactory {
       // which makes things even more confusing since we lost the fact that 42 was a float or a double.
       // It is therefore better to built our own description without using ComparisonFailure, the
       // only drawbacj is that it won't look nice in IDEs.
-      return defaultDetailedErrorMessage(description, representation);
+      arguments = comparisonStrategy instanceof ComparatorBasedComparisonStrategy
+          ? array(detailedActual(), detailedExpected(), comparisonStrategy)
+          : array(detailedActual(), detailedExpected());
+    } else {
+      arguments = comparisonStrategy.isStandard()
+          ? array(actual, expected)
+          : array(actual, expected, comparisonStrategy);
     }
-    return comparisonStrategy.isStandard()
-        ? messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE, actual, expected)
-        : messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR,
-                                  actual, expected, comparisonStrategy);
+    String format = arguments.length == 3 ? EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR : EXPECTED_BUT_WAS_MESSAGE;
+    return messageFormatter.format(description, representation, format, arguments);
   }
 
-  /**
-   * Builds and returns an error message from description using {@link #detailedExpected()} and
-   * {@link #detailedActual()} detailed representation.
-   *
-   * @param description the {@link Description} used to build the returned error message
-   * @param representation the {@link org.assertj.core.presentation.Representation} used to build String representation
-   *          of object
-   * @return the error message from description using {@link #detailedExpected()} and {@link #detailedActual()}
-   *         <b>detailed</b> representation.
-   */
-  private String defaultDetailedErrorMessage(Description description, Representation representation) {
-    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy)
-      return messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR,
-                                     detailedActual(),
-                                     detailedExpected(), comparisonStrategy);
-    return messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE, detailedActual(),
-                                   detailedExpected());
+  private boolean canCreateComparisonFailure() {
+    return constructorInvoker.canInstantiate(COMPARISON_FAILURE_CLASS_NAME, MSG_ARG_TYPES);
   }
 
-  private AssertionError assertionFailedError(String message) {
+  private boolean canCreateAssertionFailedError() {
+    return constructorInvoker.canInstantiate(ASSERTION_FAILED_ERROR_CLASS_NAME,
+                                             MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR);
+  }
+
+  private AssertionError assertionFailedError(String message, String expectedAsString, String actualAsString) {
     try {
-      Object o = constructorInvoker.newInstance("org.opentest4j.AssertionFailedError",
+      Object o = constructorInvoker.newInstance(ASSERTION_FAILED_ERROR_CLASS_NAME,
                                                 MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR,
                                                 message,
-                                                expected,
-                                                actual);
+                                                assertionFailedErrorPayload(expected, expectedAsString),
+                                                assertionFailedErrorPayload(actual, actualAsString));
       if (o instanceof AssertionError) return (AssertionError) o;
       return null;
     } catch (Throwable e) {
@@ -192,9 +226,10 @@ public class ShouldBeEqual implements AssertionErrorFactory {
     }
   }
 
-  private AssertionError comparisonFailure(Description description) {
+  private AssertionError comparisonFailure(Description description, String expectedAsString, String actualAsString) {
     try {
-      AssertionError comparisonFailure = newComparisonFailure(descriptionFormatter.format(description).trim());
+      AssertionError comparisonFailure = newComparisonFailure(descriptionFormatter.format(description).trim(),
+                                                              expectedAsString, actualAsString);
       Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(comparisonFailure);
       return comparisonFailure;
     } catch (Throwable e) {
@@ -202,16 +237,14 @@ public class ShouldBeEqual implements AssertionErrorFactory {
     }
   }
 
-  private AssertionError newComparisonFailure(String description) throws Exception {
-    Object o = constructorInvoker.newInstance("org.junit.ComparisonFailure", MSG_ARG_TYPES, msgArgs(description));
+  private AssertionError newComparisonFailure(String description, String expectedAsString,
+                                              String actualAsString) throws Exception {
+    Object o = constructorInvoker.newInstance(COMPARISON_FAILURE_CLASS_NAME, MSG_ARG_TYPES,
+                                              array(description, expectedAsString, actualAsString));
     if (o instanceof AssertionError) return (AssertionError) o;
     return null;
   }
 
-  private Object[] msgArgs(String description) {
-    return array(description, representation.toStringOf(expected), representation.toStringOf(actual));
-  }
-
   private String detailedActual() {
     return representation.unambiguousToStringOf(actual);
   }
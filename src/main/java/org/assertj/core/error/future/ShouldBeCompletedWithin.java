@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.error.future;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that a {@link Future} was expected to complete normally within a given time.
+ *
+ * @since 3.10.0
+ */
+public class ShouldBeCompletedWithin extends BasicErrorMessageFactory {
+
+  private static final String SHOULD_BE_COMPLETED_WITHIN = "%nExpecting%n  <%s>%nto be completed within %s.%n%n"
+                                                           + "exception caught while trying to get the future result:%n"
+                                                           + "  <%s>";
+
+  public static ErrorMessageFactory shouldBeCompletedWithin(Future<?> actual, Duration timeout, Throwable exception) {
+    return new ShouldBeCompletedWithin(actual, timeout, exception);
+  }
+
+  private ShouldBeCompletedWithin(Future<?> actual, Duration timeout, Throwable exception) {
+    super(SHOULD_BE_COMPLETED_WITHIN, stateAtFailureTime(actual), timeout, exception);
+  }
+
+  // the message is built lazily and the representation of a CompletableFuture shows its state, an incomplete future is
+  // replaced by a new incomplete one so that the message does not report it completed if it completes in the meantime
+  private static Future<?> stateAtFailureTime(Future<?> actual) {
+    return actual.getClass() == CompletableFuture.class && !actual.isDone() ? new CompletableFuture<>() : actual;
+  }
+}
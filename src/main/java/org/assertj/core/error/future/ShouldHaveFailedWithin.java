@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.error.future;
+
+import java.time.Duration;
+import java.util.concurrent.Future;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that a {@link Future} was expected to fail within a given time.
+ *
+ * @since 3.10.0
+ */
+public class ShouldHaveFailedWithin extends BasicErrorMessageFactory {
+
+  private static final String SHOULD_HAVE_FAILED_WITHIN = "%nExpecting%n  <%s>%nto have failed within %s "
+                                                          + "(i.e. completed exceptionally and not cancelled)";
+
+  public static ErrorMessageFactory shouldHaveFailedWithin(Future<?> actual, Duration timeout) {
+    return new ShouldHaveFailedWithin(SHOULD_HAVE_FAILED_WITHIN + ".", actual, timeout);
+  }
+
+  public static ErrorMessageFactory shouldHaveFailedWithin(Future<?> actual, Duration timeout, Object result) {
+    return new ShouldHaveFailedWithin(SHOULD_HAVE_FAILED_WITHIN + " but it completed with:%n  <%s>", actual, timeout,
+                                      result);
+  }
+
+  private ShouldHaveFailedWithin(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -18,13 +18,18 @@ import static org.assertj.core.util.Strings.isNullOrEmpty;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.description.Description;
 import org.assertj.core.error.AssertionErrorFactory;
 import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.error.LazyMessageAssertionError;
 import org.assertj.core.error.MessageFormatter;
 import org.assertj.core.error.ShouldBeEqual;
+import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.Throwables;
 import org.assertj.core.util.VisibleForTesting;
 
@@ -40,6 +45,20 @@ public class Failures {
 
   private static final Failures INSTANCE = new Failures();
 
+  /**
+   * per thread depth of nested {@link #probe(Object, Consumer)} calls, failures created while it is positive are probe
+   * failures.
+   * <p>
+   * Not initialized with a lambda as this class is loaded by the first assertion of a JVM and bootstrapping lambdas
+   * loads a few hundred classes.
+   */
+  private static final ThreadLocal<int[]> PROBE_DEPTH = new ThreadLocal<int[]>() {
+    @Override
+    protected int[] initialValue() {
+      return new int[1];
+    }
+  };
+
   /**
    * flag indicating that in case of a failure a threaddump is printed out.
    */
@@ -55,25 +74,51 @@ public class Failures {
   }
 
   /**
-   * flag indicating whether or not we remove elements related to AssertJ from assertion error stack trace.
-   */
-  private boolean removeAssertJRelatedElementsFromStackTrace = true;
-
-  /**
-   * Sets whether we remove elements related to AssertJ from assertion error stack trace.
+   * Sets whether we remove elements related to AssertJ from assertion error stack trace in the
+   * {@link Configuration#global() global} configuration.
    * 
    * @param removeAssertJRelatedElementsFromStackTrace flag
    */
   public void setRemoveAssertJRelatedElementsFromStackTrace(boolean removeAssertJRelatedElementsFromStackTrace) {
-    this.removeAssertJRelatedElementsFromStackTrace = removeAssertJRelatedElementsFromStackTrace;
+    Configuration.updateGlobal(configuration -> configuration
+        .withRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace));
   }
 
   /** 
-   * Returns whether or not we remove elements related to AssertJ from assertion error stack trace. 
+   * Returns whether or not we remove elements related to AssertJ from assertion error stack trace with the
+   * {@link Configuration#current() current} configuration.
    * @return whether or not we remove elements related to AssertJ from assertion error stack trace.
    */
   public boolean isRemoveAssertJRelatedElementsFromStackTrace() {
-    return removeAssertJRelatedElementsFromStackTrace;
+    return Configuration.current().removeAssertJRelatedElementsFromStackTrace();
+  }
+
+  /**
+   * Sets the maximum number of elements kept in the stack trace of the assertion errors, this is useful to reduce the
+   * memory used by failures raised in bulk (e.g. by soft assertions) when deep stack traces are not needed.
+   * <p>
+   * Stack traces are truncated when they are filtered, that is when
+   * {@link #isRemoveAssertJRelatedElementsFromStackTrace()} is {@code true}.
+   * <p>
+   * This updates the {@link Configuration#global() global} configuration.
+   *
+   * @param maxStackTraceDepth the maximum number of stack trace elements to keep.
+   * @throws IllegalArgumentException if {@code maxStackTraceDepth} is negative.
+   * @since 3.10.0
+   */
+  public void setMaxStackTraceDepth(int maxStackTraceDepth) {
+    Configuration.updateGlobal(configuration -> configuration.withMaxStackTraceDepth(maxStackTraceDepth));
+  }
+
+  /**
+   * Returns the maximum number of elements kept in the stack trace of the assertion errors by the
+   * {@link Configuration#current() current} configuration.
+   *
+   * @return the maximum number of elements kept in the stack trace of the assertion errors.
+   * @since 3.10.0
+   */
+  public int getMaxStackTraceDepth() {
+    return Configuration.current().maxStackTraceDepth();
   }
 
   @VisibleForTesting
@@ -95,8 +140,11 @@ public class Failures {
   public AssertionError failure(AssertionInfo info, AssertionErrorFactory factory) {
     AssertionError error = failureIfErrorMessageIsOverridden(info);
     if (error != null) return error;
+    Description description = info.description();
+    Representation representation = info.representation();
+    if (isProbing()) return new ProbeFailure(() -> factory.newAssertionError(description, representation).getMessage());
     printThreadDumpIfNeeded();
-    return factory.newAssertionError(info.description(), info.representation());
+    return factory.newAssertionError(description, representation);
   }
 
   /**
@@ -108,6 +156,9 @@ public class Failures {
    * <code>{@link AssertionError}</code>, prepending the value of <code>{@link AssertionInfo#description()}</code> to
    * the error message</li>
    * </ol>
+   * <p>
+   * In the latter case, the created error is a {@link LazyMessageAssertionError}: the detail message, including the
+   * values representation, is only built when the error message is requested.
    * 
    * @param info contains information about the failed assertion.
    * @param message knows how to create detail messages for {@code AssertionError}s.
@@ -116,17 +167,53 @@ public class Failures {
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory message) {
     AssertionError error = failureIfErrorMessageIsOverridden(info);
     if (error != null) return error;
-    AssertionError assertionError = new AssertionError(message.create(info.description(), info.representation()));
+    // description and representation are captured now as info could be modified before the message is built
+    Description description = info.description();
+    Representation representation = info.representation();
+    if (isProbing()) return new ProbeFailure(() -> message.create(description, representation));
+    return failure(() -> message.create(description, representation));
+  }
+
+  public AssertionError failureIfErrorMessageIsOverridden(AssertionInfo info) {
+    String overridingErrorMessage = info.overridingErrorMessage();
+    if (isNullOrEmpty(overridingErrorMessage)) return null;
+    Description description = info.description();
+    Representation representation = info.representation();
+    Supplier<String> message = () -> MessageFormatter.instance().format(description, representation,
+                                                                        overridingErrorMessage);
+    return isProbing() ? new ProbeFailure(message) : failure(message.get());
+  }
+
+  /**
+   * Creates a <code>{@link LazyMessageAssertionError}</code> whose message is built by the given {@code Supplier} the
+   * first time it is requested.
+   * <p>
+   * The message is built with the {@link Configuration} in effect when this method is called, the values the supplier
+   * formats should not change after the failure (or be snapshotted by the caller).
+   * <p>
+   * It filters the AssertionError stack trace be default, to have full stack trace use
+   * {@link #setRemoveAssertJRelatedElementsFromStackTrace(boolean)}.
+   *
+   * @param message builds the message of the {@code AssertionError} to create.
+   * @return the created <code>{@link AssertionError}</code>.
+   * @since 3.10.0
+   */
+  public AssertionError failure(Supplier<String> message) {
+    if (isProbing()) return new ProbeFailure(message);
+    AssertionError assertionError = new LazyMessageAssertionError(inCurrentConfiguration(message));
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
     return assertionError;
   }
 
-  public AssertionError failureIfErrorMessageIsOverridden(AssertionInfo info) {
-    String overridingErrorMessage = info.overridingErrorMessage();
-    return isNullOrEmpty(overridingErrorMessage) ? null
-        : failure(MessageFormatter.instance().format(info.description(), info.representation(),
-                                                     overridingErrorMessage));
+  private static Supplier<String> inCurrentConfiguration(Supplier<String> message) {
+    Configuration configuration = Configuration.current();
+    return () -> {
+      if (Configuration.current() == configuration) return message.get();
+      try (Configuration.Scope scope = configuration.install()) {
+        return message.get();
+      }
+    };
   }
 
   /**
@@ -139,6 +226,7 @@ public class Failures {
    * @return the created <code>{@link AssertionError}</code>.
    */
   public AssertionError failure(String message) {
+    if (isProbing()) return new ProbeFailure(() -> message);
     AssertionError assertionError = new AssertionError(message);
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
@@ -155,6 +243,38 @@ public class Failures {
     return failure(format("%s should have been thrown", throwableClass.getSimpleName()));
   }
 
+  /**
+   * Evaluates the given requirements on the given value in <i>probe</i> mode and returns whether they were satisfied.
+   * <p>
+   * Probe mode is meant for assertions that only need to know whether the requirements are met and discard the errors
+   * of the failing ones, like {@code anySatisfy}. While probing, the failures created by this class are stackless
+   * {@code AssertionError}s whose message is only formatted when {@link AssertionError#getMessage()} is called, so
+   * that failing requirements don't pay for building and filtering a stack trace and formatting a message nobody reads.
+   * <p>
+   * Probe mode is scoped to the current thread and to the duration of this call.
+   *
+   * @param <T> the type of the value to check.
+   * @param value the value to evaluate the requirements on.
+   * @param requirements the requirements to evaluate.
+   * @return {@code true} if the requirements did not throw an {@code AssertionError}, {@code false} otherwise.
+   */
+  public <T> boolean probe(T value, Consumer<? super T> requirements) {
+    int[] probeDepth = PROBE_DEPTH.get();
+    probeDepth[0]++;
+    try {
+      requirements.accept(value);
+      return true;
+    } catch (AssertionError e) {
+      return false;
+    } finally {
+      probeDepth[0]--;
+    }
+  }
+
+  private static boolean isProbing() {
+    return PROBE_DEPTH.get()[0] > 0;
+  }
+
   private void printThreadDumpIfNeeded() {
     if (printThreadDump) System.err.println(threadDumpDescription());
   }
@@ -191,8 +311,9 @@ public class Failures {
    * @param assertionError the {@code AssertionError} to filter stack trace if option is set.
    */
   public void removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError assertionError) {
-    if (removeAssertJRelatedElementsFromStackTrace) {
-      Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
+    Configuration configuration = Configuration.current();
+    if (configuration.removeAssertJRelatedElementsFromStackTrace()) {
+      Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError, configuration.maxStackTraceDepth());
     }
   }
 
@@ -217,4 +338,24 @@ public class Failures {
     }
     return threadDumpDescription.toString();
   }
+
+  /**
+   * Failure created in probe mode: it has no stack trace and its message is only formatted on first access.
+   * <p>
+   * Unlike other failures, neither its values nor the configuration are captured when it is created: probe failures
+   * are discarded or read right away by the probing assertion, on the thread that created them.
+   */
+  private static final class ProbeFailure extends LazyMessageAssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    private ProbeFailure(Supplier<String> message) {
+      super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
 }
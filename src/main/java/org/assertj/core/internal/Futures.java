@@ -12,12 +12,19 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.assertj.core.error.future.ShouldBeCancelled.shouldBeCancelled;
+import static org.assertj.core.error.future.ShouldBeCompletedWithin.shouldBeCompletedWithin;
 import static org.assertj.core.error.future.ShouldBeDone.shouldBeDone;
+import static org.assertj.core.error.future.ShouldHaveFailedWithin.shouldHaveFailedWithin;
 import static org.assertj.core.error.future.ShouldNotBeCancelled.shouldNotBeCancelled;
 import static org.assertj.core.error.future.ShouldNotBeDone.shouldNotBeDone;
 
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.util.VisibleForTesting;
@@ -87,6 +94,60 @@ public class Futures {
       throw failures.failure(info, shouldNotBeDone(actual));
   }
 
+  /**
+   * Verifies that the {@link Future} completes normally within the given time and returns its result.
+   * <p>
+   * The calling thread waits with {@link Future#get(long, java.util.concurrent.TimeUnit)}, it is not polling: a
+   * {@link java.util.concurrent.CompletableFuture CompletableFuture} registers a completion callback waking the calling
+   * thread up, so no other thread is involved in the wait.
+   *
+   * @param <RESULT> the type of the future result.
+   * @param info contains information about the assertion.
+   * @param actual the "actual" {@code Future}.
+   * @param timeout the maximum time to wait for the future to complete.
+   * @return the result of the future.
+   * @throws AssertionError if the future does not complete normally within the given time.
+   */
+  public <RESULT> RESULT assertSucceededWithin(AssertionInfo info, Future<RESULT> actual, Duration timeout) {
+    assertNotNull(info, actual);
+    try {
+      return actual.get(timeout.toNanos(), NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw failures.failure(info, shouldBeCompletedWithin(actual, timeout, e));
+    } catch (ExecutionException | TimeoutException | CancellationException e) {
+      throw failures.failure(info, shouldBeCompletedWithin(actual, timeout, e));
+    }
+  }
+
+  /**
+   * Verifies that the {@link Future} completes exceptionally (and is not cancelled) within the given time and returns
+   * the {@link Throwable} that caused the failure.
+   * <p>
+   * The calling thread waits the same way as in {@link #assertSucceededWithin(AssertionInfo, Future, Duration)}.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the "actual" {@code Future}.
+   * @param timeout the maximum time to wait for the future to complete.
+   * @return the {@code Throwable} that caused the future to fail.
+   * @throws AssertionError if the future does not fail within the given time.
+   */
+  public Throwable assertFailedWithin(AssertionInfo info, Future<?> actual, Duration timeout) {
+    assertNotNull(info, actual);
+    Object result;
+    try {
+      result = actual.get(timeout.toNanos(), NANOSECONDS);
+    } catch (ExecutionException e) {
+      return e.getCause();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw failures.failure(info, shouldHaveFailedWithin(actual, timeout));
+    } catch (TimeoutException | CancellationException e) {
+      throw failures.failure(info, shouldHaveFailedWithin(actual, timeout));
+    }
+    throw failures.failure(info, shouldHaveFailedWithin(actual, timeout, result));
+  }
+
   private void assertNotNull(AssertionInfo info, Future<?> actual) {
     Objects.instance().assertNotNull(info, actual);
   }
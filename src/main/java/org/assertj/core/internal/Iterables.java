@@ -80,6 +80,7 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -88,6 +89,7 @@ import java.util.stream.Collectors;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.presentation.PredicateDescription;
 import org.assertj.core.util.VisibleForTesting;
 
@@ -1024,15 +1026,63 @@ public class Iterables {
   }
 
   public <E> void assertAllSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements) {
+    assertAllSatisfy(info, actual, requirements, false);
+  }
+
+  /**
+   * Same as {@link #assertAllSatisfy(AssertionInfo, Iterable, Consumer)} but the requirements can be evaluated in
+   * parallel on the common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}.
+   * <p>
+   * In parallel, the reported element is still the first one not satisfying the requirements in encounter order.
+   *
+   * @param <E> the type of actual elements.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @param requirements the requirements each element must satisfy.
+   * @param parallel whether the requirements are evaluated in parallel.
+   */
+  public <E> void assertAllSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements,
+                                   boolean parallel) {
     assertNotNull(info, actual);
     requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
-    stream(actual.spliterator(), false).forEach(e -> {
-      try {
-        requirements.accept(e);
-      } catch (AssertionError ex) {
-        throw failures.failure(info, elementsShouldSatisfy(actual, e, ex.getMessage()));
+    if (!parallel) {
+      stream(actual.spliterator(), false).forEach(e -> {
+        try {
+          requirements.accept(e);
+        } catch (AssertionError ex) {
+          throw failures.failure(info, elementsShouldSatisfy(actual, e, ex.getMessage()));
+        }
+      });
+      return;
+    }
+    // workers don't see the configuration installed on this thread, each task installs it
+    Configuration configuration = Configuration.current();
+    Optional<UnsatisfiedRequirements<E>> firstUnsatisfied = stream(actual.spliterator(), true)
+        .map(e -> evaluateRequirements(e, requirements, configuration))
+        .filter(UnsatisfiedRequirements::failed)
+        .findFirst();
+    if (firstUnsatisfied.isPresent()) {
+      UnsatisfiedRequirements<E> unsatisfied = firstUnsatisfied.get();
+      throw failures.failure(info, elementsShouldSatisfy(actual, unsatisfied.element, unsatisfied.errorMessage));
+    }
+  }
+
+  // Requirements are not evaluated in probe mode: a worker waiting in them can run unrelated tasks of the common pool
+  // which would inherit its probe depth. The error message is read in the task, while the element is in the state
+  // that failed the requirements and with the caller configuration.
+  private static <E> UnsatisfiedRequirements<E> evaluateRequirements(E element, Consumer<? super E> requirements,
+                                                                      Configuration configuration) {
+    if (Configuration.current() != configuration) {
+      try (Configuration.Scope scope = configuration.install()) {
+        return evaluateRequirements(element, requirements, configuration);
       }
-    });
+    }
+    try {
+      requirements.accept(element);
+      return new UnsatisfiedRequirements<>(element, null, false);
+    } catch (AssertionError e) {
+      return new UnsatisfiedRequirements<>(element, e.getMessage(), true);
+    }
   }
 
   public <ACTUAL_ELEMENT, OTHER_ELEMENT> void assertZipSatisfy(AssertionInfo info,
@@ -1059,14 +1109,7 @@ public class Iterables {
   public <E> void assertAnySatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements) {
     assertNotNull(info, actual);
     requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
-    boolean anyMatch = stream(actual.spliterator(), false).anyMatch(e -> {
-      try {
-        requirements.accept(e);
-      } catch (AssertionError ex) {
-        return false;
-      }
-      return true;
-    });
+    boolean anyMatch = stream(actual.spliterator(), false).anyMatch(e -> failures.probe(e, requirements));
 
     if (!anyMatch) {
       throw failures.failure(info, elementsShouldSatisfyAny(actual));
@@ -1075,10 +1118,28 @@ public class Iterables {
 
   public <E> void assertAllMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
                                  PredicateDescription predicateDescription) {
+    assertAllMatch(info, actual, predicate, predicateDescription, false);
+  }
+
+  /**
+   * Same as {@link #assertAllMatch(AssertionInfo, Iterable, Predicate, PredicateDescription)} but the predicate can be
+   * evaluated in parallel on the common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}.
+   * <p>
+   * In parallel, the reported non matching elements are still in encounter order.
+   *
+   * @param <E> the type of actual elements.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @param predicate the predicate each element must match.
+   * @param predicateDescription the description of the predicate.
+   * @param parallel whether the predicate is evaluated in parallel.
+   */
+  public <E> void assertAllMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
+                                 PredicateDescription predicateDescription, boolean parallel) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    List<? extends E> nonMatches = stream(actual.spliterator(), false).filter(predicate.negate())
-                                                                      .collect(Collectors.toList());
+    List<? extends E> nonMatches = stream(actual.spliterator(), parallel).filter(predicate.negate())
+                                                                         .collect(Collectors.toList());
 
     if (!nonMatches.isEmpty()) {
       throw failures.failure(info, elementsShouldMatch(actual,
@@ -1100,14 +1161,32 @@ public class Iterables {
 
   public <E> void assertNoneMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
                                   PredicateDescription predicateDescription) {
+    assertNoneMatch(info, actual, predicate, predicateDescription, false);
+  }
+
+  /**
+   * Same as {@link #assertNoneMatch(AssertionInfo, Iterable, Predicate, PredicateDescription)} but the predicate can be
+   * evaluated in parallel on the common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}.
+   * <p>
+   * In parallel, the reported element is still the first matching one in encounter order.
+   *
+   * @param <E> the type of actual elements.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @param predicate the predicate no element must match.
+   * @param predicateDescription the description of the predicate.
+   * @param parallel whether the predicate is evaluated in parallel.
+   */
+  public <E> void assertNoneMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
+                                  PredicateDescription predicateDescription, boolean parallel) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    stream(actual.spliterator(), false).filter(predicate)
-                                       .findFirst()
-                                       .ifPresent(e -> {
-                                         throw failures.failure(info, noElementsShouldMatch(actual, e,
-                                                                                            predicateDescription));
-                                       });
+    stream(actual.spliterator(), parallel).filter(predicate)
+                                          .findFirst()
+                                          .ifPresent(e -> {
+                                            throw failures.failure(info, noElementsShouldMatch(actual, e,
+                                                                                               predicateDescription));
+                                          });
   }
 
   /**
@@ -1159,6 +1238,22 @@ public class Iterables {
     return failures.failure(info, shouldEndWith(actual, sequence, comparisonStrategy));
   }
 
+  private static class UnsatisfiedRequirements<E> {
+    private final E element;
+    private final String errorMessage;
+    private final boolean failed;
+
+    private UnsatisfiedRequirements(E element, String errorMessage, boolean failed) {
+      this.element = element;
+      this.errorMessage = errorMessage;
+      this.failed = failed;
+    }
+
+    private boolean failed() {
+      return failed;
+    }
+  }
+
   private <E> List<E> notSatisfyingCondition(Iterable<? extends E> actual, Condition<? super E> condition) {
     List<E> notSatisfiesCondition = new LinkedList<>();
     for (E o : actual) {
@@ -23,9 +23,10 @@ import static org.assertj.core.error.ShouldNotContainAtIndex.shouldNotContainAtI
 import static org.assertj.core.internal.CommonValidations.checkIndexValueIsValid;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 
-import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -45,6 +46,9 @@ public class Lists {
 
   private static final Lists INSTANCE = new Lists();
 
+  @SuppressWarnings("unchecked")
+  private static final Comparator<Object> NATURAL_ORDER = (o1, o2) -> ((Comparable<Object>) o1).compareTo(o2);
+
   /**
    * Returns the singleton instance of this class.
    * @return the singleton instance of this class.
@@ -92,7 +96,7 @@ public class Lists {
     checkIndexValueIsValid(index, actual.size() - 1);
     Object actualElement = actual.get(index.value);
     if (areEqual(actualElement, value)) return;
-    throw failures.failure(info, shouldContainAtIndex(actual, value, index, actual.get(index.value), comparisonStrategy));
+    throw failures.failure(info, shouldContainAtIndex(actual, value, index, actualElement, comparisonStrategy));
   }
 
   /**
@@ -146,14 +150,12 @@ public class Lists {
     }
     try {
       // sorted assertion is only relevant if elements are Comparable, we assume they are
-      List<Comparable<Object>> comparableList = listOfComparableElements(actual);
+      if (!allElementsAreComparable(actual)) throw failures.failure(info, shouldHaveMutuallyComparableElements(actual));
       // array with 0 or 1 element are considered sorted.
-      if (comparableList.size() <= 1) return;
-      for (int i = 0; i < comparableList.size() - 1; i++) {
-        // array is sorted in ascending order iif element i is less or equal than element i+1
-        if (comparableList.get(i).compareTo(comparableList.get(i + 1)) > 0)
-          throw failures.failure(info, shouldBeSorted(i, actual));
-      }
+      if (actual.size() <= 1) return;
+      // array is sorted in ascending order iif element i is less or equal than element i+1
+      int unsortedIndex = indexOfFirstUnsortedElement(actual, NATURAL_ORDER);
+      if (unsortedIndex != -1) throw failures.failure(info, shouldBeSorted(unsortedIndex, actual));
     } catch (ClassCastException e) {
       // elements are either not Comparable or not mutually Comparable (e.g. List<Object> containing String and Integer)
       throw failures.failure(info, shouldHaveMutuallyComparableElements(actual));
@@ -188,11 +190,10 @@ public class Lists {
         rawComparator.compare(actual.get(0), actual.get(0));
         return;
       }
-      for (int i = 0; i < actual.size() - 1; i++) {
-        // List is sorted in comparator defined order if current element is less or equal than next element
-        if (rawComparator.compare(actual.get(i), actual.get(i + 1)) > 0)
-          throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(i, actual, comparator));
-      }
+      // List is sorted in comparator defined order if current element is less or equal than next element
+      int unsortedIndex = indexOfFirstUnsortedElement(actual, rawComparator);
+      if (unsortedIndex != -1)
+        throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(unsortedIndex, actual, comparator));
     } catch (ClassCastException e) {
       throw failures.failure(info, shouldHaveComparableElementsAccordingToGivenComparator(actual, comparator));
     }
@@ -214,8 +215,9 @@ public class Lists {
    *           .
    */
   public <T> void assertHas(AssertionInfo info, List<? extends T> actual, Condition<? super T> condition, Index index) {
-    if (conditionIsMetAtIndex(info, actual, condition, index)) return;
-    throw failures.failure(info, shouldHaveAtIndex(actual, condition, index, actual.get(index.value)));
+    T actualElement = elementToCheckAgainstCondition(info, actual, condition, index);
+    if (condition.matches(actualElement)) return;
+    throw failures.failure(info, shouldHaveAtIndex(actual, condition, index, actualElement));
   }
 
   /**
@@ -234,25 +236,52 @@ public class Lists {
    *           .
    */
   public <T> void assertIs(AssertionInfo info, List<? extends T> actual, Condition<? super T> condition, Index index) {
-    if (conditionIsMetAtIndex(info, actual, condition, index)) return;
-    throw failures.failure(info, shouldBeAtIndex(actual, condition, index, actual.get(index.value)));
+    T actualElement = elementToCheckAgainstCondition(info, actual, condition, index);
+    if (condition.matches(actualElement)) return;
+    throw failures.failure(info, shouldBeAtIndex(actual, condition, index, actualElement));
   }
 
-  private <T> boolean conditionIsMetAtIndex(AssertionInfo info, List<T> actual, Condition<? super T> condition, Index index) {
+  private <T> T elementToCheckAgainstCondition(AssertionInfo info, List<T> actual, Condition<?> condition,
+                                               Index index) {
     assertNotNull(info, actual);
     assertNotNull(condition);
     Iterables.instance().assertNotEmpty(info, actual);
     checkIndexValueIsValid(index, actual.size() - 1);
-    return condition.matches(actual.get(index.value));
+    // the element is looked up once as it is not a constant time operation for sequential lists
+    return actual.get(index.value);
   }
 
-  @SuppressWarnings("unchecked")
-  private static List<Comparable<Object>> listOfComparableElements(List<?> collection) {
-    List<Comparable<Object>> listOfComparableElements = new ArrayList<>();
-    for (Object object : collection) {
-      listOfComparableElements.add((Comparable<Object>) object);
+  private static boolean allElementsAreComparable(List<?> list) {
+    for (Object element : list) {
+      // null elements are not rejected here, comparing them fails later on
+      if (element != null && !(element instanceof Comparable)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the index of the first element greater than its successor according to the given comparator, -1 if the
+   * list is sorted.
+   * <p>
+   * {@link RandomAccess} lists are accessed by index, other lists (e.g. {@link java.util.LinkedList}) are walked once
+   * with their iterator as accessing their elements by index is not a constant time operation.
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private static int indexOfFirstUnsortedElement(List<?> list, Comparator comparator) {
+    if (list instanceof RandomAccess) {
+      for (int i = 0; i < list.size() - 1; i++) {
+        if (comparator.compare(list.get(i), list.get(i + 1)) > 0) return i;
+      }
+      return -1;
+    }
+    Iterator<?> iterator = list.iterator();
+    Object previous = iterator.next();
+    for (int i = 0; iterator.hasNext(); i++) {
+      Object current = iterator.next();
+      if (comparator.compare(previous, current) > 0) return i;
+      previous = current;
     }
-    return listOfComparableElements;
+    return -1;
   }
 
   private void assertNotNull(AssertionInfo info, List<?> actual) {
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Collections.newSetFromMap;
 import static org.assertj.core.data.MapEntry.entry;
 import static org.assertj.core.error.ElementsShouldBe.elementsShouldBe;
 import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
@@ -39,10 +40,19 @@ import static org.assertj.core.util.Objects.areEqual;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -62,6 +72,10 @@ public class Maps {
 
   private static final Maps INSTANCE = new Maps();
 
+  // number of values to look for above which actual values are indexed instead of being scanned for each value
+  @VisibleForTesting
+  static final int VALUE_INDEX_THRESHOLD = 8;
+
   /**
    * Returns the singleton instance of this class.
    * 
@@ -531,8 +545,11 @@ public class Maps {
     if (actual.isEmpty() && values.length == 0) return;
     //
     Set<V> valuesNotFound = new LinkedHashSet<>();
+    Set<V> actualValues = values.length > VALUE_INDEX_THRESHOLD ? valueIndexOf(actual) : null;
     for (V valueToLookFor : values) {
-      if (!actual.containsValue(valueToLookFor)) valuesNotFound.add(valueToLookFor);
+      boolean found = actualValues == null ? actual.containsValue(valueToLookFor)
+          : actualValues.contains(valueToLookFor);
+      if (!found) valuesNotFound.add(valueToLookFor);
     }
     if (!valuesNotFound.isEmpty()) throw failures.failure(info, shouldContainValues(actual, valuesNotFound));
   }
@@ -631,7 +648,24 @@ public class Maps {
   }
 
   private <K, V> void compareActualMapAndExpectedKeys(Map<K, V> actual, K[] keys, Set<K> notExpected, Set<K> notFound) {
+    Set<K> matchedKeys = newKeySetWithSameSemanticsAs(actual);
+    if (matchedKeys == null) {
+      compareCopyOfActualMapAndExpectedKeys(actual, keys, notExpected, notFound);
+      return;
+    }
+    // probes actual directly, a key matched twice is not found the second time
+    for (K key : keys) {
+      if (!containsKeySafely(actual, key) || !matchedKeys.add(key)) notFound.add(key);
+    }
+    if (matchedKeys.size() == actual.size()) return;
+    // some actual keys were not matched, they are not expected
+    for (K key : actual.keySet()) {
+      if (!matchedKeys.contains(key)) notExpected.add(key);
+    }
+  }
 
+  private <K, V> void compareCopyOfActualMapAndExpectedKeys(Map<K, V> actual, K[] keys, Set<K> notExpected,
+                                                            Set<K> notFound) {
     Map<K, V> actualEntries = new LinkedHashMap<>(actual);
     for (K key : keys) {
       if (actualEntries.containsKey(key)) {
@@ -651,6 +685,27 @@ public class Maps {
                                                          Set<Map.Entry<? extends K, ? extends V>> notExpected,
                                                          Set<Map.Entry<? extends K, ? extends V>> notFound) {
     Map<K, V> expectedEntries = entriesToMap(entries);
+    Set<K> matchedKeys = newKeySetWithSameSemanticsAs(actual);
+    if (matchedKeys == null) {
+      compareCopyOfActualMapAndExpectedEntries(actual, expectedEntries, notExpected, notFound);
+      return;
+    }
+    // probes actual directly, a key matched twice is not found the second time
+    for (Map.Entry<K, V> entry : expectedEntries.entrySet()) {
+      if (!containsEntrySafely(actual, entry) || !matchedKeys.add(entry.getKey())) {
+        notFound.add(entry(entry.getKey(), entry.getValue()));
+      }
+    }
+    if (matchedKeys.size() == actual.size()) return;
+    // some actual entries were not matched, they are not expected
+    for (Map.Entry<K, V> entry : actual.entrySet()) {
+      if (!matchedKeys.contains(entry.getKey())) notExpected.add(entry(entry.getKey(), entry.getValue()));
+    }
+  }
+
+  private <K, V> void compareCopyOfActualMapAndExpectedEntries(Map<K, V> actual, Map<K, V> expectedEntries,
+                                                               Set<Map.Entry<? extends K, ? extends V>> notExpected,
+                                                               Set<Map.Entry<? extends K, ? extends V>> notFound) {
     Map<K, V> actualEntries = new LinkedHashMap<>(actual);
     for (Map.Entry<K, V> entry : expectedEntries.entrySet()) {
       if (containsEntry(actualEntries, entry(entry.getKey(), entry.getValue()))) {
@@ -667,6 +722,57 @@ public class Maps {
     }
   }
 
+  /**
+   * Returns an empty set comparing keys like the given map does or {@code null} if the map semantics are not known,
+   * in which case the map is copied to a {@link LinkedHashMap} to be compared.
+   */
+  @SuppressWarnings("unchecked")
+  private static <K> Set<K> newKeySetWithSameSemanticsAs(Map<K, ?> map) {
+    Class<?> mapType = map.getClass();
+    if (mapType == HashMap.class || mapType == LinkedHashMap.class || mapType == ConcurrentHashMap.class
+        || mapType == Hashtable.class) {
+      return new HashSet<>();
+    }
+    if (mapType == TreeMap.class || mapType == ConcurrentSkipListMap.class) {
+      return new TreeSet<>(((SortedMap<K, ?>) map).comparator());
+    }
+    if (mapType == IdentityHashMap.class) return newSetFromMap(new IdentityHashMap<>());
+    return null;
+  }
+
+  /**
+   * Returns the values of the given map in a set comparing them like the map {@code containsValue} does, or
+   * {@code null} if the map semantics are not known, in which case values are looked up with {@code containsValue}.
+   * <p>
+   * The set is built in one pass so that looking up k values costs O(n + k) instead of O(n.k).
+   */
+  private static <V> Set<V> valueIndexOf(Map<?, V> map) {
+    Class<?> mapType = map.getClass();
+    if (mapType == HashMap.class || mapType == LinkedHashMap.class || mapType == ConcurrentHashMap.class
+        || mapType == Hashtable.class || mapType == TreeMap.class || mapType == ConcurrentSkipListMap.class) {
+      return new HashSet<>(map.values());
+    }
+    if (mapType == IdentityHashMap.class) {
+      Set<V> values = newSetFromMap(new IdentityHashMap<>());
+      values.addAll(map.values());
+      return values;
+    }
+    return null;
+  }
+
+  // maps can throw NullPointerException or ClassCastException when looking up keys they can't contain
+  private static <K, V> boolean containsKeySafely(Map<K, V> actual, K key) {
+    try {
+      return actual.containsKey(key);
+    } catch (NullPointerException | ClassCastException e) {
+      return false;
+    }
+  }
+
+  private static <K, V> boolean containsEntrySafely(Map<K, V> actual, Map.Entry<K, V> entry) {
+    return containsKeySafely(actual, entry.getKey()) && areEqual(actual.get(entry.getKey()), entry.getValue());
+  }
+
   private <K, V> void doCommonContainsCheck(AssertionInfo info, Map<K, V> actual,
                                             Map.Entry<? extends K, ? extends V>[] entries) {
     assertNotNull(info, actual);
@@ -497,6 +497,9 @@ public class Objects {
   }
 
   private boolean isActualIn(Object actual, Iterable<?> values) {
+    // the standard strategy uses the values collection lookup when possible (e.g. HashSet)
+    if (comparisonStrategy == StandardComparisonStrategy.instance())
+      return comparisonStrategy.iterableContains(values, actual);
     for (Object value : values) {
       if (areEqual(actual, value)) {
         return true;
@@ -12,12 +12,26 @@
  */
 package org.assertj.core.internal;
 
-import static org.assertj.core.util.Preconditions.checkArgument;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.util.Arrays.isArray;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 import org.assertj.core.util.Objects;
 
@@ -32,6 +46,18 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
 
   private static final StandardComparisonStrategy INSTANCE = new StandardComparisonStrategy();
 
+  // collections whose contains method relies on equals (and hashCode) like areEqual does for non array values
+  private static final Set<Class<?>> EQUALS_BASED_COLLECTION_TYPES = new HashSet<>(asList(
+      HashSet.class, LinkedHashSet.class,
+      new HashMap<>().keySet().getClass(), new HashMap<>().entrySet().getClass(),
+      new LinkedHashMap<>().keySet().getClass(), new LinkedHashMap<>().entrySet().getClass(),
+      ConcurrentHashMap.KeySetView.class, new ConcurrentHashMap<>().entrySet().getClass()));
+
+  // sorted sets finding their elements with compareTo, natural ordering is consistent with equals for sane types
+  private static final Set<Class<?>> SORTED_SET_TYPES = new HashSet<>(asList(
+      TreeSet.class, ConcurrentSkipListSet.class,
+      new TreeMap<>().keySet().getClass(), new ConcurrentSkipListMap<>().keySet().getClass()));
+
   /**
    * Returns the singleton instance of this class.
    * 
@@ -94,6 +120,13 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
     if (iterable == null) {
       return false;
     }
+    if (hasNativeLookupMatchingAreEqual(iterable, value)) {
+      try {
+        return nativeContains(iterable, value);
+      } catch (NullPointerException | ClassCastException e) {
+        // some collections reject null or not mutually comparable values, look for value the slow way
+      }
+    }
     for (Object next : iterable) {
       if (areEqual(next, value)) {
         return true;
@@ -102,6 +135,27 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
     return false;
   }
 
+  /**
+   * Collections like {@code HashSet}, {@code TreeSet} or {@code EnumSet} find a value faster than by iterating over
+   * all their elements, their lookup is used when it gives the same result as {@link #areEqual(Object, Object)}, that
+   * is when this class {@code areEqual} is not overridden and the value is not an array (arrays are compared by
+   * content).
+   */
+  private boolean hasNativeLookupMatchingAreEqual(Iterable<?> iterable, Object value) {
+    if (getClass() != StandardComparisonStrategy.class || isArray(value)) return false;
+    if (iterable instanceof EnumSet || EQUALS_BASED_COLLECTION_TYPES.contains(iterable.getClass())) return true;
+    return SORTED_SET_TYPES.contains(iterable.getClass()) && ((SortedSet<?>) iterable).comparator() == null;
+  }
+
+  private static boolean nativeContains(Iterable<?> iterable, Object value) {
+    if (!(iterable instanceof SortedSet)) return ((Collection<?>) iterable).contains(value);
+    // elements equal to value compare to 0 with it, they can't be different from the element found by the set
+    NavigableSet<?> sortedSet = (NavigableSet<?>) iterable;
+    @SuppressWarnings("unchecked")
+    Object ceiling = ((NavigableSet<Object>) sortedSet).ceiling(value);
+    return ceiling != null && Objects.areEqual(ceiling, value);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -178,7 +232,10 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
   }
 
   private void checkArgumentIsComparable(Object actual) {
-    checkArgument(actual instanceof Comparable, "argument '%s' should be Comparable but is not", actual);
+    // not using checkArgument as its varargs would allocate on each comparison
+    if (!(actual instanceof Comparable)) {
+      throw new IllegalArgumentException(format("argument '%s' should be Comparable but is not", actual));
+    }
   }
 
   @Override
@@ -334,13 +334,15 @@ public class Strings {
    */
   public void assertContains(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> notFound = new LinkedHashSet<>();
+    // only created when a value is not found to avoid allocating in passing assertions
+    Set<CharSequence> notFound = null;
     for (CharSequence value : values) {
       if (!stringContains(actual, value)) {
+        if (notFound == null) notFound = new LinkedHashSet<>();
         notFound.add(value);
       }
     }
-    if (notFound.isEmpty()) return;
+    if (notFound == null) return;
     if (notFound.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldContain(actual, values[0], comparisonStrategy));
     }
@@ -17,10 +17,13 @@ import static org.assertj.core.util.Strings.join;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.util.DoubleComparator;
 import org.assertj.core.util.FloatComparator;
@@ -38,17 +41,23 @@ public class TypeComparators {
   private static final double DOUBLE_COMPARATOR_PRECISION = 1e-15;
   private static final float FLOAT_COMPARATOR_PRECISION = 1e-6f;
 
+  // registered comparators are described ordered by class simple name (then by class name for homonyms)
   private static final Comparator<Class<?>> CLASS_COMPARATOR = new Comparator<Class<?>>() {
 
     @Override
     public int compare(Class<?> class1, Class<?> class2) {
-      return class1.getSimpleName().compareTo(class2.getSimpleName());
+      int simpleNameComparison = class1.getSimpleName().compareTo(class2.getSimpleName());
+      return simpleNameComparison != 0 ? simpleNameComparison : class1.getName().compareTo(class2.getName());
     }
   };
 
   @VisibleForTesting
   Map<Class<?>, Comparator<?>> typeComparators;
 
+  // most relevant comparator by class, it is cleared whenever a comparator is registered.
+  // the absence of comparator is cached as an empty Optional since ConcurrentHashMap does not accept null values.
+  private final Map<Class<?>, Optional<Comparator<?>>> resolvedComparators = new ConcurrentHashMap<>();
+
   public static TypeComparators defaultTypeComparators() {
     TypeComparators comparatorByType = new TypeComparators();
     comparatorByType.put(Double.class, new DoubleComparator(DOUBLE_COMPARATOR_PRECISION));
@@ -57,7 +66,7 @@ public class TypeComparators {
   }
 
   public TypeComparators() {
-    typeComparators = new TreeMap<>(CLASS_COMPARATOR);
+    typeComparators = new HashMap<>();
   }
 
   /**
@@ -67,11 +76,22 @@ public class TypeComparators {
    * 1. If there is a registered comparator for {@code clazz} then this one is used
    * 2. We check if there is a registered comparator for all the superclasses of {@code clazz}
    * 3. We check if there is a registered comparator for all the interfaces if {@code clazz}
+   * <p>
+   * The comparator found (or the absence of comparator) is cached for {@code clazz} until a comparator is registered.
    *
    * @param clazz the class for which to find a comparator
    * @return the most relevant comparator, or {@code null} if no comparator could be found
    */
   public Comparator<?> get(Class<?> clazz) {
+    Optional<Comparator<?>> comparator = resolvedComparators.get(clazz);
+    if (comparator == null) {
+      comparator = Optional.ofNullable(findMostRelevantComparator(clazz));
+      resolvedComparators.put(clazz, comparator);
+    }
+    return comparator.orElse(null);
+  }
+
+  private Comparator<?> findMostRelevantComparator(Class<?> clazz) {
     Comparator<?> comparator = typeComparators.get(clazz);
 
     if (comparator == null) {
@@ -103,6 +123,7 @@ public class TypeComparators {
    */
   public <T> void put(Class<T> clazz, Comparator<? super T> comparator) {
     typeComparators.put(clazz, comparator);
+    resolvedComparators.clear();
   }
 
   /**
@@ -126,7 +147,9 @@ public class TypeComparators {
   @Override
   public String toString() {
     List<String> registeredComparatorsDescription = new ArrayList<>();
-    for (Entry<Class<?>, Comparator<?>> registeredComparator : this.typeComparators.entrySet()) {
+    Map<Class<?>, Comparator<?>> sortedTypeComparators = new TreeMap<>(CLASS_COMPARATOR);
+    sortedTypeComparators.putAll(typeComparators);
+    for (Entry<Class<?>, Comparator<?>> registeredComparator : sortedTypeComparators.entrySet()) {
       registeredComparatorsDescription.add(formatRegisteredComparator(registeredComparator));
     }
     return format("{%s}", join(registeredComparatorsDescription).with(", "));
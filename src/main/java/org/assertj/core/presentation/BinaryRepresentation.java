@@ -12,6 +12,8 @@
  */
 package org.assertj.core.presentation;
 
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Float.floatToIntBits;
 import static org.assertj.core.util.Strings.concat;
 
 /**
@@ -56,38 +58,67 @@ public class BinaryRepresentation extends StandardRepresentation {
   }
 
   protected String toStringOf(Byte b) {
-    return toGroupedBinary(Integer.toBinaryString(b & 0xFF), 8);
+    return toGroupedBinary(b, 8);
   }
 
   protected String toStringOf(Short s) {
-    return toGroupedBinary(Integer.toBinaryString(s & 0xFFFF), 16);
+    return toGroupedBinary(s, 16);
   }
 
   protected String toStringOf(Integer i) {
-    return toGroupedBinary(Integer.toBinaryString(i), 32);
+    return toGroupedBinary(i, 32);
   }
 
   protected String toStringOf(Long l) {
-    return toGroupedBinary(Long.toBinaryString(l), 64);
+    return toGroupedBinary(l, 64);
   }
 
   protected String toStringOf(Float f) {
-    return toGroupedBinary(Integer.toBinaryString(Float.floatToIntBits(f)), 32);
+    return toGroupedBinary(floatToIntBits(f), 32);
   }
 
   protected String toStringOf(Double d) {
-    return toGroupedBinary(Long.toBinaryString(Double.doubleToRawLongBits(d)), 64);
+    return toGroupedBinary(doubleToRawLongBits(d), 64);
   }
 
   protected String toStringOf(Character character) {
     return concat("'", toStringOf((short) (int) character), "'");
   }
 
-  private static String toGroupedBinary(String value, int size) {
-    return BYTE_PREFIX + NumberGrouping.toBinaryLiteral(toBinary(value, size));
+  @Override
+  boolean appendsStructurally() {
+    return getClass() == BinaryRepresentation.class;
+  }
+
+  @Override
+  protected void appendPrimitiveArrayElement(StringBuilder buffer, Object array, int index) {
+    if (!canAppendPrimitivesDirectly()) {
+      super.appendPrimitiveArrayElement(buffer, array, index);
+      return;
+    }
+    if (array instanceof byte[]) appendGroupedBinary(buffer, ((byte[]) array)[index], 8);
+    else if (array instanceof short[]) appendGroupedBinary(buffer, ((short[]) array)[index], 16);
+    else if (array instanceof int[]) appendGroupedBinary(buffer, ((int[]) array)[index], 32);
+    else if (array instanceof long[]) appendGroupedBinary(buffer, ((long[]) array)[index], 64);
+    else if (array instanceof float[]) appendGroupedBinary(buffer, floatToIntBits(((float[]) array)[index]), 32);
+    else if (array instanceof double[]) appendGroupedBinary(buffer, doubleToRawLongBits(((double[]) array)[index]), 64);
+    else if (array instanceof char[]) appendGroupedBinaryCharacter(buffer, ((char[]) array)[index]);
+    else super.appendPrimitiveArrayElement(buffer, array, index);
+  }
+
+  private static String toGroupedBinary(long value, int size) {
+    return appendGroupedBinary(new StringBuilder(BYTE_PREFIX.length() + size + size / 8), value, size).toString();
+  }
+
+  private static void appendGroupedBinaryCharacter(StringBuilder buffer, char character) {
+    buffer.append('\'');
+    appendGroupedBinary(buffer, character, 16);
+    buffer.append('\'');
   }
 
-  private static String toBinary(String value, int size) {
-    return String.format("%" + size + "s", value).replace(' ', '0');
+  private static StringBuilder appendGroupedBinary(StringBuilder buffer, long value, int size) {
+    buffer.append(BYTE_PREFIX);
+    NumberGrouping.appendBinaryLiteral(buffer, value, size);
+    return buffer;
   }
 }
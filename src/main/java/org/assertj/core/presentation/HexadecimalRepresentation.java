@@ -12,6 +12,8 @@
  */
 package org.assertj.core.presentation;
 
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Float.floatToIntBits;
 import static org.assertj.core.util.Strings.concat;
 
 /**
@@ -69,11 +71,11 @@ public class HexadecimalRepresentation extends StandardRepresentation {
   }
 
   protected String toStringOf(Float f) {
-    return toGroupedHex(Float.floatToIntBits(f), 32);
+    return toGroupedHex(floatToIntBits(f), 32);
   }
 
   protected String toStringOf(Double d) {
-    return toGroupedHex(Double.doubleToRawLongBits(d), 64);
+    return toGroupedHex(doubleToRawLongBits(d), 64);
   }
 
   protected String toStringOf(Character character) {
@@ -84,11 +86,40 @@ public class HexadecimalRepresentation extends StandardRepresentation {
     return concat("\"", representation.toStringOf(s.toCharArray()), "\"");
   }
 
-  private static String toGroupedHex(Number value, int size) {
-    return PREFIX + NumberGrouping.toHexLiteral(toHex(value, size));
+  @Override
+  boolean appendsStructurally() {
+    return getClass() == HexadecimalRepresentation.class;
+  }
+
+  @Override
+  protected void appendPrimitiveArrayElement(StringBuilder buffer, Object array, int index) {
+    if (!canAppendPrimitivesDirectly()) {
+      super.appendPrimitiveArrayElement(buffer, array, index);
+      return;
+    }
+    if (array instanceof byte[]) appendGroupedHex(buffer, ((byte[]) array)[index], 8);
+    else if (array instanceof short[]) appendGroupedHex(buffer, ((short[]) array)[index], 16);
+    else if (array instanceof int[]) appendGroupedHex(buffer, ((int[]) array)[index], 32);
+    else if (array instanceof long[]) appendGroupedHex(buffer, ((long[]) array)[index], 64);
+    else if (array instanceof float[]) appendGroupedHex(buffer, floatToIntBits(((float[]) array)[index]), 32);
+    else if (array instanceof double[]) appendGroupedHex(buffer, doubleToRawLongBits(((double[]) array)[index]), 64);
+    else if (array instanceof char[]) appendGroupedHexCharacter(buffer, ((char[]) array)[index]);
+    else super.appendPrimitiveArrayElement(buffer, array, index);
+  }
+
+  private static String toGroupedHex(long value, int size) {
+    return appendGroupedHex(new StringBuilder(PREFIX.length() + size / 3), value, size).toString();
+  }
+
+  private static void appendGroupedHexCharacter(StringBuilder buffer, char character) {
+    buffer.append('\'');
+    appendGroupedHex(buffer, character, 16);
+    buffer.append('\'');
   }
 
-  private static String toHex(Number value, int sizeInBits) {
-    return String.format("%0" + sizeInBits / NIBBLE_SIZE + "X", value);
+  private static StringBuilder appendGroupedHex(StringBuilder buffer, long value, int size) {
+    buffer.append(PREFIX);
+    NumberGrouping.appendHexLiteral(buffer, value, size);
+    return buffer;
   }
 }
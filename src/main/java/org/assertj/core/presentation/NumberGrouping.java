@@ -12,43 +12,55 @@
  */
 package org.assertj.core.presentation;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * @author Mariusz Smykula
  */
 final class NumberGrouping {
 
-  private static final String UNDERSCORE_SEPARATOR = "_";
-  private static Pattern hexGroupPattern = Pattern.compile("([0-9|A-Z]{4})");
-  private static Pattern binaryGroupPattern = Pattern.compile("([0-1]{8})");
-
-  static String toHexLiteral(String value) {
-    return value.length() > 4 ? toHexLiteral(hexGroupPattern, value) : value;
+  private static final char UNDERSCORE = '_';
+  private static final int NIBBLES_PER_GROUP = 4;
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+  private static final char[] LOWER_CASE_HEX_DIGITS = "0123456789abcdef".toCharArray();
+  // the 8 binary digits of each byte value, byte b digits start at index b * 8
+  private static final char[] BYTE_BINARY_DIGITS = byteBinaryDigits();
+  /**
+   * Appends the upper case hexadecimal digits of the {@code sizeInBits} lowest bits of the given value, grouped by 4
+   * digits when there are more than 4 digits.
+   */
+  static void appendHexLiteral(StringBuilder buffer, long value, int sizeInBits) {
+    for (int nibble = sizeInBits / 4 - 1; nibble >= 0; nibble--) {
+      buffer.append(HEX_DIGITS[(int) (value >>> (nibble * 4)) & 0xF]);
+      if (nibble != 0 && nibble % NIBBLES_PER_GROUP == 0) buffer.append(UNDERSCORE);
+    }
   }
 
-  static String toBinaryLiteral(String value) {
-    return toHexLiteral(binaryGroupPattern, value);
+  /**
+   * Appends the binary digits of the {@code sizeInBits} lowest bits of the given value, grouped by byte.
+   */
+  static void appendBinaryLiteral(StringBuilder buffer, long value, int sizeInBits) {
+    for (int b = sizeInBits / 8 - 1; b >= 0; b--) {
+      buffer.append(BYTE_BINARY_DIGITS, ((int) (value >>> (b * 8)) & 0xFF) * 8, 8);
+      if (b != 0) buffer.append(UNDERSCORE);
+    }
   }
 
-  private static String toHexLiteral(Pattern pattern, String value) {
-
-    Matcher matcher = pattern.matcher(value);
-    StringBuilder literalBuilder = new StringBuilder();
-    while (matcher.find()) {
-      String byteGroup = matcher.group(1);
-      if (notEmpty(literalBuilder)) {
-        literalBuilder.append(UNDERSCORE_SEPARATOR);
-      }
-      literalBuilder.append(byteGroup);
+  /**
+   * Appends the 4 lower case hexadecimal digits of the given char, same as {@code String.format("%04x", (int) c)}.
+   */
+  static void appendLowerCaseHex(StringBuilder buffer, char c) {
+    for (int nibble = 3; nibble >= 0; nibble--) {
+      buffer.append(LOWER_CASE_HEX_DIGITS[(c >>> (nibble * 4)) & 0xF]);
     }
-
-    return literalBuilder.toString();
   }
 
-  private static boolean notEmpty(StringBuilder sb) {
-    return sb.length() != 0;
+  private static char[] byteBinaryDigits() {
+    char[] digits = new char[256 * 8];
+    for (int b = 0; b < 256; b++) {
+      for (int bit = 0; bit < 8; bit++) {
+        digits[b * 8 + bit] = (b & (0x80 >>> bit)) == 0 ? '0' : '1';
+      }
+    }
+    return digits;
   }
 
   private NumberGrouping() {
@@ -61,4 +61,43 @@ public interface Representation {
    */
   String unambiguousToStringOf(Object object);
 
+  /**
+   * Appends the {@code String} representation of the given object to the given buffer, this avoids building an
+   * intermediate {@code String} for each element when formatting nested values.
+   * <p>
+   * The given budget is the number of chars the caller is interested in, once the appended representation exceeds it,
+   * implementations are allowed to stop appending and return {@code false}, callers must then consider the appended
+   * chars incomplete.
+   * <p>
+   * The default implementation appends {@link #toStringOf(Object)}, up to one char more than the budget.
+   *
+   * @param buffer the buffer to append the representation to.
+   * @param object the object to represent.
+   * @param budget the number of chars the caller is interested in.
+   * @return {@code true} if the appended representation fits in the budget, {@code false} otherwise.
+   * @since 3.10.0
+   */
+  default boolean appendTo(StringBuilder buffer, Object object, int budget) {
+    String representation = String.valueOf(toStringOf(object));
+    if (representation.length() <= budget) {
+      buffer.append(representation);
+      return true;
+    }
+    // the caller is not interested in the chars beyond the budget, appending one more shows it was exceeded
+    buffer.append(representation, 0, Math.max(budget, 0) + 1);
+    return false;
+  }
+
+  /**
+   * Appends the whole {@code String} representation of the given object to the given buffer, see
+   * {@link #appendTo(StringBuilder, Object, int)}.
+   *
+   * @param buffer the buffer to append the representation to.
+   * @param object the object to represent.
+   * @since 3.10.0
+   */
+  default void appendTo(StringBuilder buffer, Object object) {
+    appendTo(buffer, object, Integer.MAX_VALUE);
+  }
+
 }
@@ -17,7 +17,6 @@ import static java.lang.reflect.Array.getLength;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
 import static org.assertj.core.util.Arrays.isObjectArray;
-import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
 
@@ -29,7 +28,6 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -51,6 +49,7 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.function.Function;
 
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.data.MapEntry;
 import org.assertj.core.groups.Tuple;
 import org.assertj.core.util.Arrays;
@@ -88,38 +87,73 @@ public class StandardRepresentation implements Representation {
   public static final String ELEMENT_SEPARATOR = ",";
   public static final String ELEMENT_SEPARATOR_WITH_NEWLINE = ELEMENT_SEPARATOR + Compatibility.System.lineSeparator();
 
-  private static int maxLengthForSingleLineDescription = 80;
-
-  private static final Map<Class<?>, Function<?, String>> customFormatterByType = new HashMap<>();
-
-  private static int maxElementsForPrinting = 1000;
-
   /**
-   * It resets the static defaults for the standard representation.
+   * It resets the static defaults for the standard representation in the {@link Configuration#global() global}
+   * configuration.
    * <p>
    * The following defaults will be reapplied:
    * <ul>
    *   <li>{@code maxLengthForSingleLineDescription = 80}</li>
    *   <li>{@code maxElementsForPrinting = 1000}</li>
+   *   <li>{@code maxLengthForPrintedValue = Integer.MAX_VALUE}</li>
+   *   <li>{@code maxLengthForErrorMessage = Integer.MAX_VALUE}</li>
    * </ul>
    */
   public static void resetDefaults() {
-    maxLengthForSingleLineDescription = 80;
-    maxElementsForPrinting = 1000;
+    Configuration defaults = Configuration.defaults();
+    Configuration.updateGlobal(configuration -> configuration
+        .withMaxLengthForSingleLineDescription(defaults.maxLengthForSingleLineDescription())
+        .withMaxElementsForPrinting(defaults.maxElementsForPrinting())
+        .withMaxLengthForPrintedValue(defaults.maxLengthForPrintedValue())
+        .withMaxLengthForErrorMessage(defaults.maxLengthForErrorMessage()));
   }
 
   public static void setMaxLengthForSingleLineDescription(int value) {
-    checkArgument(value > 0, "maxLengthForSingleLineDescription must be > 0 but was %s", value);
-    maxLengthForSingleLineDescription = value;
+    Configuration.updateGlobal(configuration -> configuration.withMaxLengthForSingleLineDescription(value));
   }
 
   public static int getMaxLengthForSingleLineDescription() {
-    return maxLengthForSingleLineDescription;
+    return Configuration.current().maxLengthForSingleLineDescription();
   }
 
   public static void setMaxElementsForPrinting(int value) {
-    checkArgument(value >= 1, "maxElementsForPrinting must be >= 1, but was %s", value);
-    maxElementsForPrinting = value;
+    Configuration.updateGlobal(configuration -> configuration.withMaxElementsForPrinting(value));
+  }
+
+  /**
+   * Sets the maximum length of a single value representation (a {@code String}, an element of a collection, ...), the
+   * representations exceeding it are cut and followed by a marker giving the number of omitted chars, for example
+   * with a max length of 10, {@code "abcdefghijklmnopqrstuvwxyz"} is represented as
+   * {@code "abcdefghi...(18 chars omitted)}.
+   * <p>
+   * Strings are cut without building their whole representation.
+   *
+   * @param value the maximum length of a single value representation.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   * @since 3.10.0
+   */
+  public static void setMaxLengthForPrintedValue(int value) {
+    Configuration.updateGlobal(configuration -> configuration.withMaxLengthForPrintedValue(value));
+  }
+
+  public static int getMaxLengthForPrintedValue() {
+    return Configuration.current().maxLengthForPrintedValue();
+  }
+
+  /**
+   * Sets the maximum length of error messages, the messages exceeding it are cut while being formatted and followed
+   * by a marker giving the maximum length.
+   *
+   * @param value the maximum length of error messages.
+   * @throws IllegalArgumentException if the given value is less than 1.
+   * @since 3.10.0
+   */
+  public static void setMaxLengthForErrorMessage(int value) {
+    Configuration.updateGlobal(configuration -> configuration.withMaxLengthForErrorMessage(value));
+  }
+
+  public static int getMaxLengthForErrorMessage() {
+    return Configuration.current().maxLengthForErrorMessage();
   }
 
   /**
@@ -130,14 +164,14 @@ public class StandardRepresentation implements Representation {
    * @param formatter the formatter  
    */
   public static <T> void registerFormatterForType(Class<T> type, Function<T, String> formatter) {
-    customFormatterByType.put(type, formatter);
+    Configuration.updateGlobal(configuration -> configuration.withFormatterForType(type, formatter));
   }
 
   /**
    * Clear all formatters registered per type with {@link #registerFormatterForType(Class, Function)}.
    */
   public static void removeAllRegisteredFormatters() {
-    customFormatterByType.clear();
+    Configuration.updateGlobal(Configuration::withoutFormatters);
   }
 
   /**
@@ -180,18 +214,19 @@ public class StandardRepresentation implements Representation {
     if (object instanceof InsertDelta<?>) return toStringOf((InsertDelta<?>) object);
     if (object instanceof ChangeDelta<?>) return toStringOf((ChangeDelta<?>) object);
     if (object instanceof DeleteDelta<?>) return toStringOf((DeleteDelta<?>) object);
-    return object == null ? null : fallbackToStringOf(object);
+    return object == null ? null : cutToMaxLengthForPrintedValue(fallbackToStringOf(object));
   }
 
   @SuppressWarnings("unchecked")
   protected <T> String customFormat(T object) {
     if (object == null) return null;
-    return ((Function<T, String>) customFormatterByType.get(object.getClass())).apply(object);
+    Function<T, String> formatter = (Function<T, String>) Configuration.current().formatterForType(object.getClass());
+    return cutToMaxLengthForPrintedValue(formatter.apply(object));
   }
 
   protected boolean hasCustomFormatterFor(Object object) {
     if (object == null) return false;
-    return customFormatterByType.containsKey(object.getClass());
+    return Configuration.current().formatterForType(object.getClass()) != null;
   }
 
   @Override
@@ -200,6 +235,82 @@ public class StandardRepresentation implements Representation {
         : String.format("%s (%s@%s)", toStringOf(obj), obj.getClass().getSimpleName(), toHexString(obj.hashCode()));
   }
 
+  /**
+   * Appends the representation of the given object to the given buffer, the elements of arrays, collections, maps,
+   * tuples, map entries and atomic references are appended one by one to the same buffer instead of being formatted to
+   * intermediate {@code String}s, formatting stops as soon as the budget is exceeded and single line formatting attempts
+   * stop as soon as they exceed the {@link #getMaxLengthForSingleLineDescription() single line max length}.
+   * <p>
+   * Subclasses may have overridden the {@code toStringOf} methods, for them this method appends
+   * {@link #toStringOf(Object)}.
+   *
+   * @param buffer the buffer to append the representation to.
+   * @param object the object to represent.
+   * @param budget the number of chars the caller is interested in.
+   * @return {@code true} if the appended representation fits in the budget, {@code false} otherwise.
+   * @since 3.10.0
+   */
+  @Override
+  public boolean appendTo(StringBuilder buffer, Object object, int budget) {
+    if (!appendsStructurally() || object == null || hasCustomFormatterFor(object)) {
+      return Representation.super.appendTo(buffer, object, budget);
+    }
+    if (isArray(object)) {
+      return isObjectArray(object) ? appendSmartFormat(buffer, (Object[]) object, budget)
+          : appendPrimitiveArray(buffer, object, budget);
+    }
+    if (object instanceof String) return appendString(buffer, (String) object, budget);
+    if (object instanceof AtomicReference) {
+      return appendWrapped(buffer, "AtomicReference[", ((AtomicReference<?>) object).get(), budget);
+    }
+    if (object instanceof AtomicMarkableReference) {
+      AtomicMarkableReference<?> atomicMarkableReference = (AtomicMarkableReference<?>) object;
+      return appendWrapped(buffer, "AtomicMarkableReference[marked=" + atomicMarkableReference.isMarked()
+                                   + ", reference=", atomicMarkableReference.getReference(), budget);
+    }
+    if (object instanceof AtomicStampedReference) {
+      AtomicStampedReference<?> atomicStampedReference = (AtomicStampedReference<?>) object;
+      return appendWrapped(buffer, "AtomicStampedReference[stamp=" + atomicStampedReference.getStamp()
+                                   + ", reference=", atomicStampedReference.getReference(), budget);
+    }
+    // toStringOf(Object) formats comparators before collections and maps
+    if (object instanceof Comparator) return Representation.super.appendTo(buffer, object, budget);
+    if (object instanceof Collection<?>) return appendSmartFormat(buffer, (Collection<?>) object, budget);
+    if (object instanceof Map<?, ?>) return appendMap(buffer, (Map<?, ?>) object, budget);
+    if (object instanceof Tuple) {
+      return append(buffer, ((Tuple) object).toList(), TUPLE_START, TUPLE_END, ELEMENT_SEPARATOR,
+                    INDENTATION_FOR_SINGLE_LINE, budget);
+    }
+    if (object instanceof MapEntry) return appendMapEntry(buffer, (MapEntry<?, ?>) object, budget);
+    return Representation.super.appendTo(buffer, object, budget);
+  }
+
+  private boolean appendString(StringBuilder buffer, String s, int budget) {
+    long representationLength = s.length() + 2L;
+    if (representationLength <= budget + 1L || representationLength > Configuration.current().maxLengthForPrintedValue()) {
+      return Representation.super.appendTo(buffer, s, budget);
+    }
+    // the quoted string exceeds the budget, only copies the chars the caller is interested in plus one
+    buffer.append('"').append(s, 0, Math.max(budget, 0));
+    return false;
+  }
+
+  private boolean appendMapEntry(StringBuilder buffer, MapEntry<?, ?> mapEntry, int budget) {
+    int start = buffer.length();
+    buffer.append("MapEntry[key=");
+    if (!appendTo(buffer, mapEntry.key, remainingBudget(buffer, start, budget))) return false;
+    return appendWrapped(buffer, ", value=", mapEntry.value, remainingBudget(buffer, start, budget));
+  }
+
+  // appends the given prefix, the value representation then ']'
+  private boolean appendWrapped(StringBuilder buffer, String prefix, Object value, int budget) {
+    int start = buffer.length();
+    buffer.append(prefix);
+    if (!appendTo(buffer, value, remainingBudget(buffer, start, budget))) return false;
+    buffer.append(']');
+    return fitsInBudget(buffer, start, budget);
+  }
+
   /**
    * Returns the {@code String} representation of the given object. This method is used as a last resort if none of
    * the {@link StandardRepresentation} predefined string representations were not called.
@@ -248,7 +359,13 @@ public class StandardRepresentation implements Representation {
   }
 
   protected String toStringOf(String s) {
-    return concat("\"", s, "\"");
+    int maxLengthForPrintedValue = Configuration.current().maxLengthForPrintedValue();
+    long representationLength = s.length() + 2L;
+    if (representationLength <= maxLengthForPrintedValue) return concat("\"", s, "\"");
+    // only copies the chars that are kept
+    StringBuilder cut = new StringBuilder(maxLengthForPrintedValue + 32);
+    cut.append('"').append(s, 0, maxLengthForPrintedValue - 1);
+    return cut.append(elision(representationLength - maxLengthForPrintedValue)).toString();
   }
 
   protected String toStringOf(Character c) {
@@ -305,21 +422,38 @@ public class StandardRepresentation implements Representation {
 
   protected String toStringOf(Map<?, ?> map) {
     if (map == null) return null;
+    StringBuilder builder = new StringBuilder();
+    appendMap(builder, map, Integer.MAX_VALUE);
+    return builder.toString();
+  }
+
+  private boolean appendMap(StringBuilder buffer, Map<?, ?> map, int budget) {
+    int maxElementsForPrinting = Configuration.current().maxElementsForPrinting();
+    int start = buffer.length();
     Map<?, ?> sortedMap = toSortedMapIfPossible(map);
     Iterator<?> entriesIterator = sortedMap.entrySet().iterator();
-    if (!entriesIterator.hasNext()) return "{}";
-    StringBuilder builder = new StringBuilder("{");
+    if (!entriesIterator.hasNext()) {
+      buffer.append("{}");
+      return fitsInBudget(buffer, start, budget);
+    }
+    buffer.append("{");
     int printedElements = 0;
     for (;;) {
       Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
       if (printedElements == maxElementsForPrinting) {
-        builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
-        return builder.append("}").toString();
+        buffer.append(DEFAULT_MAX_ELEMENTS_EXCEEDED).append("}");
+        return fitsInBudget(buffer, start, budget);
       }
-      builder.append(format(map, entry.getKey())).append('=').append(format(map, entry.getValue()));
+      if (!appendMapElement(buffer, map, entry.getKey(), remainingBudget(buffer, start, budget))) return false;
+      buffer.append('=');
+      if (!appendMapElement(buffer, map, entry.getValue(), remainingBudget(buffer, start, budget))) return false;
       printedElements++;
-      if (!entriesIterator.hasNext()) return builder.append("}").toString();
-      builder.append(", ");
+      if (!entriesIterator.hasNext()) {
+        buffer.append("}");
+        return fitsInBudget(buffer, start, budget);
+      }
+      buffer.append(", ");
+      if (!fitsInBudget(buffer, start, budget)) return false;
     }
   }
 
@@ -331,8 +465,10 @@ public class StandardRepresentation implements Representation {
     }
   }
 
-  private String format(Map<?, ?> map, Object o) {
-    return o == map ? "(this Map)" : toStringOf(o);
+  private boolean appendMapElement(StringBuilder buffer, Map<?, ?> map, Object o, int budget) {
+    if (o != map) return appendTo(buffer, o, budget);
+    buffer.append("(this Map)");
+    return true;
   }
 
   protected String toStringOf(AtomicReference<?> atomicReference) {
@@ -397,6 +533,11 @@ public class StandardRepresentation implements Representation {
   }
 
   protected String smartFormat(Representation representation, Object[] iterable) {
+    if (appendsStructurally()) {
+      StringBuilder desc = new StringBuilder();
+      appendSmartFormat(desc, iterable, Integer.MAX_VALUE);
+      return desc.toString();
+    }
     Set<Object[]> alreadyFormatted = new HashSet<>();
     String singleLineDescription = singleLineFormat(representation, iterable, DEFAULT_START, DEFAULT_END,
                                                     alreadyFormatted);
@@ -404,12 +545,35 @@ public class StandardRepresentation implements Representation {
         : multiLineFormat(representation, iterable, alreadyFormatted);
   }
 
+  private boolean appendSmartFormat(StringBuilder buffer, Object[] array, int budget) {
+    int start = buffer.length();
+    Set<Object[]> alreadyFormatted = new HashSet<>();
+    if (append(buffer, array, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, alreadyFormatted, singleLineBudget())) {
+      return fitsInBudget(buffer, start, budget);
+    }
+    // does not fit on a single line, the aborted attempt may not have cleaned up alreadyFormatted
+    buffer.setLength(start);
+    alreadyFormatted.clear();
+    return append(buffer, array, ELEMENT_SEPARATOR_WITH_NEWLINE, INDENTATION_AFTER_NEWLINE, alreadyFormatted, budget);
+  }
+
   protected String format(Object[] array, String elementSeparator,
                           String indentation, Set<Object[]> alreadyFormatted) {
     if (array == null) return null;
-    if (array.length == 0) return DEFAULT_START + DEFAULT_END;
-    // iterable has some elements
     StringBuilder desc = new StringBuilder();
+    append(desc, array, elementSeparator, indentation, alreadyFormatted, Integer.MAX_VALUE);
+    return desc.toString();
+  }
+
+  private boolean append(StringBuilder desc, Object[] array, String elementSeparator, String indentation,
+                         Set<Object[]> alreadyFormatted, int budget) {
+    int maxElementsForPrinting = Configuration.current().maxElementsForPrinting();
+    int start = desc.length();
+    if (array.length == 0) {
+      desc.append(DEFAULT_START).append(DEFAULT_END);
+      return fitsInBudget(desc, start, budget);
+    }
+    // iterable has some elements
     desc.append(DEFAULT_START);
     alreadyFormatted.add(array); // used to avoid infinite recursion when array contains itself
     int i = 0;
@@ -420,20 +584,28 @@ public class StandardRepresentation implements Representation {
       if (i == maxElementsForPrinting) {
         desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
         alreadyFormatted.remove(array);
-        return desc.append(DEFAULT_END).toString();
+        desc.append(DEFAULT_END);
+        return fitsInBudget(desc, start, budget);
       }
       // add element representation
-      if (!isArray(element)) desc.append(element == null ? NULL : toStringOf(element));
-      else if (isArrayTypePrimitive(element)) desc.append(formatPrimitiveArray(element));
+      int remainingBudget = remainingBudget(desc, start, budget);
+      boolean fitsInBudget = true;
+      if (element == null) desc.append(NULL);
+      else if (!isArray(element)) fitsInBudget = appendTo(desc, element, remainingBudget);
+      else if (isArrayTypePrimitive(element)) fitsInBudget = appendPrimitiveArray(desc, element, remainingBudget);
       else if (alreadyFormatted.contains(element)) desc.append("(this array)");
-      else desc.append(format((Object[]) element, elementSeparator, indentation, alreadyFormatted));
+      else fitsInBudget = append(desc, (Object[]) element, elementSeparator, indentation, alreadyFormatted,
+                                 remainingBudget);
+      if (!fitsInBudget) return false;
       // manage end description
       if (i == array.length - 1) {
         alreadyFormatted.remove(array);
-        return desc.append(DEFAULT_END).toString();
+        desc.append(DEFAULT_END);
+        return fitsInBudget(desc, start, budget);
       }
       // there are still elements to describe
       desc.append(elementSeparator);
+      if (!fitsInBudget(desc, start, budget)) return false;
       i++;
     }
   }
@@ -441,11 +613,17 @@ public class StandardRepresentation implements Representation {
   protected String formatPrimitiveArray(Object o) {
     if (!isArray(o)) return null;
     if (!isArrayTypePrimitive(o)) throw Arrays.notAnArrayOfPrimitives(o);
-    int size = getLength(o);
-    if (size == 0) return DEFAULT_START + DEFAULT_END;
     StringBuilder buffer = new StringBuilder();
+    appendPrimitiveArray(buffer, o, Integer.MAX_VALUE);
+    return buffer.toString();
+  }
+
+  private boolean appendPrimitiveArray(StringBuilder buffer, Object array, int budget) {
+    int maxElementsForPrinting = Configuration.current().maxElementsForPrinting();
+    int start = buffer.length();
+    int size = getLength(array);
     buffer.append(DEFAULT_START);
-    buffer.append(toStringOf(Array.get(o, 0)));
+    if (size != 0) appendPrimitiveArrayElement(buffer, array, 0);
     for (int i = 1; i < size; i++) {
       buffer.append(ELEMENT_SEPARATOR)
             .append(INDENTATION_FOR_SINGLE_LINE);
@@ -453,19 +631,70 @@ public class StandardRepresentation implements Representation {
         buffer.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
         break;
       }
-
-      buffer.append(toStringOf(Array.get(o, i)));
+      if (!fitsInBudget(buffer, start, budget)) return false;
+      appendPrimitiveArrayElement(buffer, array, i);
     }
     buffer.append(DEFAULT_END);
-    return buffer.toString();
+    return fitsInBudget(buffer, start, budget);
+  }
+
+  /**
+   * Appends the representation of the element at the given index of the given primitive array to the given buffer.
+   * <p>
+   * The elements of the primitive arrays are appended without boxing them when no custom formatters are registered
+   * and this representation is not a subclass (which may have overridden the {@code toStringOf} methods), otherwise
+   * they are appended with {@link #toStringOf(Object)}.
+   *
+   * @param buffer the buffer to append the element representation to.
+   * @param array the primitive array.
+   * @param index the index of the element to append.
+   */
+  protected void appendPrimitiveArrayElement(StringBuilder buffer, Object array, int index) {
+    if (!canAppendPrimitivesDirectly()) {
+      buffer.append(toStringOf(Array.get(array, index)));
+      return;
+    }
+    if (array instanceof int[]) buffer.append(((int[]) array)[index]);
+    else if (array instanceof long[]) buffer.append(((long[]) array)[index]).append('L');
+    else if (array instanceof float[]) buffer.append(((float[]) array)[index]).append('f');
+    else if (array instanceof double[]) buffer.append(((double[]) array)[index]);
+    else if (array instanceof byte[]) buffer.append(((byte[]) array)[index]);
+    else if (array instanceof short[]) buffer.append(((short[]) array)[index]);
+    else if (array instanceof char[]) buffer.append('\'').append(((char[]) array)[index]).append('\'');
+    else if (array instanceof boolean[]) buffer.append(((boolean[]) array)[index]);
+    else buffer.append(toStringOf(Array.get(array, index)));
+  }
+
+  boolean canAppendPrimitivesDirectly() {
+    return appendsStructurally() && !Configuration.current().hasFormatters();
+  }
+
+  /**
+   * Whether values are appended to a shared buffer element by element, only the representations of this package
+   * do it, subclasses may have overridden the {@code toStringOf} and formatting methods.
+   */
+  boolean appendsStructurally() {
+    return getClass() == StandardRepresentation.class;
   }
 
   public String format(Iterable<?> iterable, String start, String end, String elementSeparator, String indentation) {
     if (iterable == null) return null;
+    StringBuilder desc = new StringBuilder();
+    append(desc, iterable, start, end, elementSeparator, indentation, Integer.MAX_VALUE);
+    return desc.toString();
+  }
+
+  private boolean append(StringBuilder desc, Iterable<?> iterable, String start, String end, String elementSeparator,
+                         String indentation, int budget) {
+    int maxElementsForPrinting = Configuration.current().maxElementsForPrinting();
+    int startLength = desc.length();
     Iterator<?> iterator = iterable.iterator();
-    if (!iterator.hasNext()) return start + end;
+    desc.append(start);
+    if (!iterator.hasNext()) {
+      desc.append(end);
+      return fitsInBudget(desc, startLength, budget);
+    }
     // iterable has some elements
-    StringBuilder desc = new StringBuilder(start);
     boolean firstElement = true;
     int printedElements = 0;
     while (true) {
@@ -475,15 +704,20 @@ public class StandardRepresentation implements Representation {
       else desc.append(indentation);
       // add element representation
       if (printedElements == maxElementsForPrinting) {
-        desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
-        return desc.append(end).toString();
+        desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED).append(end);
+        return fitsInBudget(desc, startLength, budget);
       }
-      desc.append(element == iterable ? "(this Collection)" : toStringOf(element));
+      if (element == iterable) desc.append("(this Collection)");
+      else if (!appendTo(desc, element, remainingBudget(desc, startLength, budget))) return false;
       printedElements++;
       // manage end description
-      if (!iterator.hasNext()) return desc.append(end).toString();
+      if (!iterator.hasNext()) {
+        desc.append(end);
+        return fitsInBudget(desc, startLength, budget);
+      }
       // there are still elements to be describe
       desc.append(elementSeparator);
+      if (!fitsInBudget(desc, startLength, budget)) return false;
     }
   }
 
@@ -506,12 +740,53 @@ public class StandardRepresentation implements Representation {
    * @return the {@code String} representation of the given {@code Iterable}.
    */
   protected String smartFormat(Iterable<?> iterable) {
+    if (iterable != null && appendsStructurally()) {
+      StringBuilder desc = new StringBuilder();
+      appendSmartFormat(desc, iterable, Integer.MAX_VALUE);
+      return desc.toString();
+    }
     String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
     return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
   }
 
+  private boolean appendSmartFormat(StringBuilder buffer, Iterable<?> iterable, int budget) {
+    int start = buffer.length();
+    if (append(buffer, iterable, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE,
+               singleLineBudget())) {
+      return fitsInBudget(buffer, start, budget);
+    }
+    buffer.setLength(start);
+    return append(buffer, iterable, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR_WITH_NEWLINE,
+                  INDENTATION_AFTER_NEWLINE, budget);
+  }
+
+  // a description fits on a single line if it is strictly shorter than maxLengthForSingleLineDescription
+  private static int singleLineBudget() {
+    return Configuration.current().maxLengthForSingleLineDescription() - 1;
+  }
+
+  private static boolean fitsInBudget(StringBuilder buffer, int start, int budget) {
+    return buffer.length() - start <= budget;
+  }
+
+  private static int remainingBudget(StringBuilder buffer, int start, int budget) {
+    return budget - (buffer.length() - start);
+  }
+
+  private static String cutToMaxLengthForPrintedValue(String representation) {
+    int maxLengthForPrintedValue = Configuration.current().maxLengthForPrintedValue();
+    if (representation == null || representation.length() <= maxLengthForPrintedValue) return representation;
+    return representation.substring(0, maxLengthForPrintedValue)
+           + elision(representation.length() - maxLengthForPrintedValue);
+  }
+
+  private static String elision(long omittedChars) {
+    return "...(" + omittedChars + " chars omitted)";
+  }
+
   private static boolean doesDescriptionFitOnSingleLine(String singleLineDescription) {
-    return singleLineDescription == null || singleLineDescription.length() < maxLengthForSingleLineDescription;
+    return singleLineDescription == null
+           || singleLineDescription.length() < Configuration.current().maxLengthForSingleLineDescription();
   }
 
 }
@@ -12,8 +12,6 @@
  */
 package org.assertj.core.presentation;
 
-import java.util.Formatter;
-
 /**
  * Unicode object representation instead of standard java representation.
  *
@@ -46,17 +44,34 @@ public class UnicodeRepresentation extends StandardRepresentation {
     return escapeUnicode(string);
   }
 
+  @Override
+  boolean appendsStructurally() {
+    return getClass() == UnicodeRepresentation.class;
+  }
+
+  @Override
+  protected void appendPrimitiveArrayElement(StringBuilder buffer, Object array, int index) {
+    if (canAppendPrimitivesDirectly() && array instanceof char[]) {
+      appendEscapedUnicode(buffer, ((char[]) array)[index]);
+    } else {
+      super.appendPrimitiveArrayElement(buffer, array, index);
+    }
+  }
+
   private static String escapeUnicode(String input) {
     StringBuilder b = new StringBuilder(input.length());
-    Formatter formatter = new Formatter(b);
-    for (char c : input.toCharArray()) {
-      if (c < 128) {
-        b.append(c);
-      } else {
-        formatter.format("\\u%04x", (int) c);
-      }
+    for (int i = 0; i < input.length(); i++) {
+      appendEscapedUnicode(b, input.charAt(i));
     }
-    formatter.close();
     return b.toString();
   }
+
+  private static void appendEscapedUnicode(StringBuilder buffer, char c) {
+    if (c < 128) {
+      buffer.append(c);
+    } else {
+      buffer.append("\\u");
+      NumberGrouping.appendLowerCaseHex(buffer, c);
+    }
+  }
 }
@@ -51,6 +51,14 @@ public final class Objects {
     if (o1 == o2) {
       return true;
     }
+    Class<?> componentType = o1.getClass().getComponentType();
+    if (componentType == o2.getClass().getComponentType() && componentType.isPrimitive()) {
+      return areEqualPrimitiveArrays(o1, o2);
+    }
+    if (o1 instanceof Object[] && o2 instanceof Object[]) {
+      return areEqualObjectArrays((Object[]) o1, (Object[]) o2);
+    }
+    // arrays of different types, e.g. int[] and Integer[], are compared element by element
     int size = Array.getLength(o1);
     if (Array.getLength(o2) != size) {
       return false;
@@ -82,6 +90,33 @@ public final class Objects {
     return names;
   }
 
+  // arrays of the same primitive type are compared without boxing their elements
+  private static boolean areEqualPrimitiveArrays(Object o1, Object o2) {
+    if (o1 instanceof int[]) return java.util.Arrays.equals((int[]) o1, (int[]) o2);
+    if (o1 instanceof long[]) return java.util.Arrays.equals((long[]) o1, (long[]) o2);
+    if (o1 instanceof double[]) return java.util.Arrays.equals((double[]) o1, (double[]) o2);
+    if (o1 instanceof byte[]) return java.util.Arrays.equals((byte[]) o1, (byte[]) o2);
+    if (o1 instanceof char[]) return java.util.Arrays.equals((char[]) o1, (char[]) o2);
+    if (o1 instanceof float[]) return java.util.Arrays.equals((float[]) o1, (float[]) o2);
+    if (o1 instanceof short[]) return java.util.Arrays.equals((short[]) o1, (short[]) o2);
+    return java.util.Arrays.equals((boolean[]) o1, (boolean[]) o2);
+  }
+
+  private static boolean areEqualObjectArrays(Object[] array1, Object[] array2) {
+    if (array1.length != array2.length) {
+      return false;
+    }
+    for (int i = 0; i < array1.length; i++) {
+      Object e1 = array1[i];
+      Object e2 = array2[i];
+      // only nested arrays need to go through areEqual
+      if (e1 != e2 && (e1 == null || !e1.equals(e2) && !areEqualArrays(e1, e2))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Returns the hash code for the given object. If the object is {@code null}, this method returns zero. Otherwise
    * calls the method {@code hashCode} of the given object.
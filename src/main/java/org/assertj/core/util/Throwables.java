@@ -13,6 +13,7 @@
 package org.assertj.core.util;
 
 import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -85,29 +86,86 @@ public final class Throwables {
    * @param throwable the {@code Throwable} to filter stack trace.
    */
   public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable) {
-    List<StackTraceElement> filtered = newArrayList(throwable.getStackTrace());
-    StackTraceElement previous = null;
-    for (StackTraceElement element : throwable.getStackTrace()) {
-      if (element.getClassName().contains(ORG_ASSERTJ)) {
-        filtered.remove(element);
-        // Handle the case when AssertJ builds a ComparisonFailure by reflection (see ShouldBeEqual.newAssertionError
-        // method), the stack trace looks like:
-        //
-        // java.lang.reflect.Constructor.newInstance(Constructor.java:501),
-        // org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34),
-        //
-        // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ.
-        if (previous != null && JAVA_LANG_REFLECT_CONSTRUCTOR.equals(previous.getClassName())
-            && element.getClassName().contains(ORG_ASSERTJ_CORE_ERROR_CONSTRUCTOR_INVOKER)) {
-          filtered.remove(previous);
-        }
+    removeAssertJRelatedElementsFromStackTrace(throwable, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Same as {@link #removeAssertJRelatedElementsFromStackTrace(Throwable)} but also truncates the filtered stack trace to
+   * keep at most the given number of elements (the ones closer to where the {@code Throwable} was created).
+   * <p>
+   * The stack trace is filtered in a single pass and is left untouched if there is nothing to remove or truncate,
+   * filtering a stack trace twice is thus cheap.
+   *
+   * @param throwable the {@code Throwable} to filter stack trace.
+   * @param maxStackTraceDepth the maximum number of elements to keep in the filtered stack trace.
+   * @throws IllegalArgumentException if {@code maxStackTraceDepth} is negative.
+   * @since 3.10.0
+   */
+  public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable, int maxStackTraceDepth) {
+    checkArgument(maxStackTraceDepth >= 0, "The maximum stack trace depth should not be negative but was %s",
+                  maxStackTraceDepth);
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    int firstAssertJElementIndex = indexOfFirstAssertJRelatedElement(stackTrace);
+    if (firstAssertJElementIndex == -1) {
+      // already filtered or nothing to filter
+      truncateStackTrace(throwable, stackTrace, maxStackTraceDepth);
+      return;
+    }
+    StackTraceElement[] filtered = new StackTraceElement[stackTrace.length];
+    System.arraycopy(stackTrace, 0, filtered, 0, firstAssertJElementIndex);
+    int filteredLength = firstAssertJElementIndex;
+    for (int i = firstAssertJElementIndex; i < stackTrace.length; i++) {
+      StackTraceElement element = stackTrace[i];
+      if (!isAssertJRelated(element)) {
+        filtered[filteredLength++] = element;
+        continue;
       }
-      previous = element;
+      // Handle the case when AssertJ builds a ComparisonFailure by reflection (see ShouldBeEqual.newAssertionError
+      // method), the stack trace looks like:
+      //
+      // java.lang.reflect.Constructor.newInstance(Constructor.java:501),
+      // org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34),
+      //
+      // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ, as it is
+      // not AssertJ related it has been kept as the last filtered element.
+      if (i > 0 && JAVA_LANG_REFLECT_CONSTRUCTOR.equals(stackTrace[i - 1].getClassName())
+          && element.getClassName().contains(ORG_ASSERTJ_CORE_ERROR_CONSTRUCTOR_INVOKER)) {
+        filteredLength--;
+      }
+    }
+    throwable.setStackTrace(java.util.Arrays.copyOf(filtered, Math.min(filteredLength, maxStackTraceDepth)));
+  }
+
+  /**
+   * Truncates the stack trace of the given {@code Throwable} to keep at most the given number of elements (the ones
+   * closer to where the {@code Throwable} was created).
+   *
+   * @param throwable the {@code Throwable} to truncate stack trace.
+   * @param maxStackTraceDepth the maximum number of elements to keep in the stack trace.
+   * @throws IllegalArgumentException if {@code maxStackTraceDepth} is negative.
+   * @since 3.10.0
+   */
+  public static void truncateStackTrace(Throwable throwable, int maxStackTraceDepth) {
+    checkArgument(maxStackTraceDepth >= 0, "The maximum stack trace depth should not be negative but was %s",
+                  maxStackTraceDepth);
+    truncateStackTrace(throwable, throwable.getStackTrace(), maxStackTraceDepth);
+  }
+
+  private static void truncateStackTrace(Throwable throwable, StackTraceElement[] stackTrace, int maxStackTraceDepth) {
+    if (stackTrace.length > maxStackTraceDepth)
+      throwable.setStackTrace(java.util.Arrays.copyOf(stackTrace, maxStackTraceDepth));
+  }
+
+  private static int indexOfFirstAssertJRelatedElement(StackTraceElement[] stackTrace) {
+    for (int i = 0; i < stackTrace.length; i++) {
+      if (isAssertJRelated(stackTrace[i])) return i;
     }
-    StackTraceElement[] newStackTrace = filtered.toArray(new StackTraceElement[filtered.size()]);
-    throwable.setStackTrace(newStackTrace);
+    return -1;
   }
 
+  private static boolean isAssertJRelated(StackTraceElement element) {
+    return element.getClassName().contains(ORG_ASSERTJ);
+  }
 
   /**
    * Get the root cause (ie the last non null cause) from a {@link Throwable}.
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.test.ThreadAllocations.allocatedBytesPerCall;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.test.Jedi;
+import org.junit.Test;
+
+/**
+ * Checks the bytes allocated by passing assertions do not exceed the recorded budgets, the budgets include the
+ * assertion objects and leave some room for JVMs not able to remove all the temporary objects.
+ * <p>
+ * Raise a budget only if the extra allocation is intended.
+ */
+public class Assertions_allocation_Test {
+
+  private final Object object = new Jedi("Yoda", "Green");
+  private final Object otherObject = new Jedi("Yoda", "Green");
+  private final List<String> list = newArrayList("Luke", "Yoda", "Leia");
+  private final Map<String, String> map = new LinkedHashMap<>();
+  private final String string = "Yoda the Jedi master";
+  private final int[] ints = { 1, 2, 3, 4, 5 };
+
+  {
+    map.put("name", "Yoda");
+    map.put("color", "Green");
+  }
+
+  @Test
+  public void should_not_allocate_more_than_budget_for_passing_object_assertions() {
+    assertAllocationWithinBudget("isEqualTo", 700, () -> assertThat(object).isEqualTo(otherObject));
+    assertAllocationWithinBudget("isNotNull().isInstanceOf", 700,
+                                 () -> assertThat(object).isNotNull().isInstanceOf(Jedi.class));
+    assertAllocationWithinBudget("int isEqualTo", 700, () -> assertThat(ints.length).isEqualTo(5));
+  }
+
+  @Test
+  public void should_not_allocate_more_than_budget_for_passing_iterable_assertions() {
+    assertAllocationWithinBudget("contains", 1500, () -> assertThat(list).contains("Yoda"));
+    assertAllocationWithinBudget("hasSize", 1200, () -> assertThat(list).hasSize(3));
+    assertAllocationWithinBudget("containsExactly", 2400,
+                                 () -> assertThat(list).containsExactly("Luke", "Yoda", "Leia"));
+  }
+
+  @Test
+  public void should_not_allocate_more_than_budget_for_passing_map_assertions() {
+    assertAllocationWithinBudget("containsKey", 800, () -> assertThat(map).containsKey("name"));
+    assertAllocationWithinBudget("containsEntry", 900, () -> assertThat(map).containsEntry("name", "Yoda"));
+  }
+
+  @Test
+  public void should_not_allocate_more_than_budget_for_passing_char_sequence_assertions() {
+    assertAllocationWithinBudget("startsWith", 700, () -> assertThat(string).startsWith("Yoda"));
+    assertAllocationWithinBudget("contains", 700, () -> assertThat(string).contains("Jedi"));
+  }
+
+  @Test
+  public void should_not_allocate_more_than_budget_for_passing_primitive_array_assertions() {
+    assertAllocationWithinBudget("contains", 700, () -> assertThat(ints).contains(3));
+    assertAllocationWithinBudget("containsExactly", 1900, () -> assertThat(ints).containsExactly(1, 2, 3, 4, 5));
+  }
+
+  private static void assertAllocationWithinBudget(String assertion, long budgetInBytes, Runnable passingAssertion) {
+    assertThat(allocatedBytesPerCall(passingAssertion)).as("bytes allocated by a passing %s assertion", assertion)
+                                                       .isLessThanOrEqualTo(budgetInBytes);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.eventually;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class Assertions_eventually_Test {
+
+  @Test
+  public void should_pass_if_assertion_passes_at_first_attempt() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    eventually(Duration.ofSeconds(10), () -> assertThat(attempts.incrementAndGet()).isEqualTo(1));
+
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  public void should_retry_assertion_until_it_passes() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    eventually(Duration.ofSeconds(10), () -> assertThat(attempts.incrementAndGet()).isGreaterThanOrEqualTo(4));
+
+    assertThat(attempts).hasValue(4);
+  }
+
+  @Test
+  public void should_retry_attempts_throwing_an_exception() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    eventually(Duration.ofSeconds(10), () -> {
+      if (attempts.incrementAndGet() < 3) throw new IOException("not there yet");
+    });
+
+    assertThat(attempts).hasValue(3);
+  }
+
+  @Test
+  public void should_throw_error_of_last_attempt_if_assertion_does_not_pass_before_timeout() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    Throwable error = catchThrowable(() -> eventually(Duration.ofMillis(100),
+                                                      () -> assertThat(attempts.incrementAndGet()).isNegative()));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("to be less than")
+                     .hasMessageContaining("<" + attempts.get() + ">");
+    assertThat(attempts.get()).isGreaterThan(1);
+  }
+
+  @Test
+  public void should_run_intermediate_attempts_in_probe_mode() {
+    List<AssertionError> errors = new ArrayList<>();
+
+    catchThrowable(() -> eventually(Duration.ofMillis(50), () -> {
+      try {
+        assertThat("foo").isEqualTo("bar");
+      } catch (AssertionError e) {
+        errors.add(e);
+        throw e;
+      }
+    }));
+
+    assertThat(errors.size()).isGreaterThan(1);
+    assertThat(errors.subList(0, errors.size() - 1)).allSatisfy(error -> assertThat(error.getStackTrace()).isEmpty());
+    assertThat(errors.get(errors.size() - 1).getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  public void should_throw_exception_of_last_attempt_if_assertion_does_not_pass_before_timeout() {
+    IllegalStateException exception = new IllegalStateException("boom!");
+
+    Throwable thrown = catchThrowable(() -> eventually(Duration.ZERO, () -> {
+      throw exception;
+    }));
+
+    assertThat(thrown).isSameAs(exception);
+  }
+
+  @Test
+  public void should_fail_if_timeout_is_negative() {
+    Throwable thrown = catchThrowable(() -> eventually(Duration.ofSeconds(-1), () -> {}));
+
+    assertThat(thrown).isInstanceOf(IllegalArgumentException.class)
+                      .hasMessage("The timeout should not be negative but was PT-1S");
+  }
+
+  @Test
+  public void should_fail_if_assertion_is_null() {
+    Throwable thrown = catchThrowable(() -> eventually(Duration.ofSeconds(1), null));
+
+    assertThat(thrown).isInstanceOf(NullPointerException.class)
+                      .hasMessage("The assertion to retry should not be null");
+  }
+}
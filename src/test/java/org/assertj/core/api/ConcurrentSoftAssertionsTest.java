@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class ConcurrentSoftAssertionsTest {
+
+  private static final int THREADS = 4;
+  private static final int ASSERTIONS_PER_THREAD = 500;
+
+  private final ConcurrentSoftAssertions softly = new ConcurrentSoftAssertions();
+
+  @Test
+  public void all_assertions_should_pass() {
+    IntStream.range(0, 1000).parallel().forEach(i -> softly.assertThat(i).isGreaterThanOrEqualTo(0));
+    softly.assertAll();
+  }
+
+  @Test
+  public void should_collect_every_error_from_concurrent_threads() throws InterruptedException {
+    // WHEN
+    runInThreads(thread -> {
+      for (int i = 0; i < ASSERTIONS_PER_THREAD; i++) {
+        softly.assertThat(i).as("%s-%s", thread, i).isNegative();
+      }
+    });
+    // THEN
+    List<Throwable> errors = softly.errorsCollected();
+    assertThat(errors).hasSize(THREADS * ASSERTIONS_PER_THREAD);
+    try {
+      softly.assertAll();
+      fail("SoftAssertionError expected");
+    } catch (SoftAssertionError e) {
+      assertThat(e.getErrors()).hasSize(THREADS * ASSERTIONS_PER_THREAD);
+    }
+  }
+
+  @Test
+  public void should_order_errors_by_ordering_key_whatever_the_thread_running_the_assertions() throws Exception {
+    // GIVEN
+    List<String> expectedMessages = new ArrayList<>();
+    for (int key = 0; key < 100; key++) {
+      expectedMessages.add("key-" + key + "-first");
+      expectedMessages.add("key-" + key + "-second");
+    }
+    // WHEN the same failing assertions are run twice by a pool of threads, in reverse key order
+    List<String> firstRunMessages = failWithOrderingKeys();
+    List<String> secondRunMessages = failWithOrderingKeys();
+    // THEN
+    assertThat(firstRunMessages).containsExactlyElementsOf(expectedMessages)
+                                .isEqualTo(secondRunMessages);
+  }
+
+  @Test
+  public void should_report_errors_collected_without_ordering_key_after_keyed_ones() {
+    // WHEN
+    softly.fail("without key");
+    softly.assertWithOrderingKey(1, () -> softly.fail("key 1"));
+    softly.assertWithOrderingKey(0, () -> softly.fail("key 0"));
+    // THEN
+    assertThat(softly.errorsCollected()).extracting(error -> error.getMessage().split("\\R")[0])
+                                        .containsExactly("key 0", "key 1", "without key");
+  }
+
+  private static List<String> failWithOrderingKeys() throws Exception {
+    ConcurrentSoftAssertions softly = new ConcurrentSoftAssertions();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> tasks = new ArrayList<>();
+      for (int key = 99; key >= 0; key--) {
+        int orderingKey = key;
+        tasks.add(executor.submit(() -> softly.assertWithOrderingKey(orderingKey, () -> {
+          softly.fail("key-" + orderingKey + "-first");
+          softly.assertThat(orderingKey).as("key-%s-second", orderingKey).isNegative();
+        })));
+      }
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    // error messages end with the line of the soft assertion, only keep the description or failure message
+    return softly.errorsCollected().stream()
+                 .map(error -> error.getMessage().split("\\R")[0].replaceAll("^\\[(.*)\\] $", "$1"))
+                 .collect(toList());
+  }
+
+  @Test
+  public void should_track_the_last_result_per_thread() throws InterruptedException {
+    // GIVEN
+    softly.assertThat(true).isFalse();
+    // WHEN
+    List<Boolean> otherThreadResult = new ArrayList<>();
+    Thread thread = new Thread(() -> {
+      softly.assertThat(true).isTrue();
+      otherThreadResult.add(softly.wasSuccess());
+    });
+    thread.start();
+    thread.join();
+    // THEN
+    assertThat(otherThreadResult).containsExactly(true);
+    assertThat(softly.wasSuccess()).isFalse();
+  }
+
+  private static void runInThreads(WorkerTask task) throws InterruptedException {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    // threads are started in reverse name order so that the reported order does not come from the start order
+    for (int i = THREADS - 1; i >= 0; i--) {
+      String name = "worker-" + i;
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        task.run(name);
+      }, name);
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+
+  private interface WorkerTask {
+    void run(String threadName);
+  }
+}
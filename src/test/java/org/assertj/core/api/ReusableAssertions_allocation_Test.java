@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.test.ThreadAllocations.allocatedBytesPerCall;
+
+import org.assertj.core.test.Jedi;
+import org.junit.Test;
+
+/**
+ * Checks passing assertions of {@link ReusableAssertions} do not allocate, the actual values are chosen so that their
+ * boxed values (if any) are cached by the JVM.
+ */
+public class ReusableAssertions_allocation_Test {
+
+  private static final long ALLOCATION_TOLERANCE = 16;
+
+  private final ReusableAssertions reusable = ReusableAssertions.forCurrentThread();
+  private final Object object = new Jedi("Yoda", "Green");
+  private final String string = "Yoda the Jedi master";
+  private int smallInt = 42;
+  private long smallLong = 42L;
+
+  @Test
+  public void should_not_allocate_for_passing_int_assertions() {
+    assertNoAllocation("isEqualTo", () -> reusable.assertThat(smallInt).isEqualTo(42));
+    assertNoAllocation("isPositive().isLessThan", () -> reusable.assertThat(smallInt).isPositive().isLessThan(100));
+  }
+
+  @Test
+  public void should_not_allocate_for_passing_long_assertions() {
+    assertNoAllocation("isEqualTo", () -> reusable.assertThat(smallLong).isEqualTo(42L));
+    assertNoAllocation("isGreaterThan", () -> reusable.assertThat(smallLong).isGreaterThan(0L));
+  }
+
+  @Test
+  public void should_not_allocate_for_passing_string_assertions() {
+    assertNoAllocation("startsWith", () -> reusable.assertThat(string).startsWith("Yoda"));
+    // varargs checks like contains(CharSequence...) allocate their arguments array when it is not optimized away
+    assertNoAllocation("endsWith", () -> reusable.assertThat(string).endsWith("master"));
+    assertNoAllocation("isNotEmpty", () -> reusable.assertThat(string).isNotEmpty());
+  }
+
+  @Test
+  public void should_not_allocate_for_passing_object_assertions() {
+    assertNoAllocation("isSameAs", () -> reusable.assertThat(object).isSameAs(object));
+    assertNoAllocation("isNotNull().isInstanceOf",
+                       () -> reusable.assertThat(object).isNotNull().isInstanceOf(Jedi.class));
+  }
+
+  @Test
+  public void should_only_allocate_boxed_values_for_passing_double_assertions() {
+    double actual = Math.PI;
+    // Double values are never cached by the JVM, the actual and expected values are boxed (24 bytes each) unless the
+    // JIT removes the boxing, the budget leaves room for one more box but is far below a new assertion allocation
+    long allocatedBytes = allocatedBytesPerCall(() -> reusable.assertThat(actual).isGreaterThan(3.0));
+    assertThat(allocatedBytes).as("bytes allocated by a passing isGreaterThan assertion")
+                              .isLessThanOrEqualTo(72);
+  }
+
+  // the allocation counters are not exact and escape analysis differs between JVMs, a few bytes per call are tolerated
+  // as a new assertion allocates far more (its info, description holder and the assertion itself)
+  private static void assertNoAllocation(String assertion, Runnable passingAssertion) {
+    assertThat(allocatedBytesPerCall(passingAssertion)).as("bytes allocated by a passing %s assertion", assertion)
+                                                       .isLessThanOrEqualTo(ALLOCATION_TOLERANCE);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.test.Jedi;
+import org.junit.Test;
+
+public class ReusableAssertions_assertThat_Test {
+
+  private final ReusableAssertions reusable = ReusableAssertions.forCurrentThread();
+
+  @Test
+  public void should_reuse_the_same_assertion_for_a_given_type() {
+    assertThat(reusable.assertThat(1)).isSameAs(reusable.assertThat(2));
+    assertThat(reusable.assertThat(1L)).isSameAs(reusable.assertThat(2L));
+    assertThat(reusable.assertThat(1.0)).isSameAs(reusable.assertThat(2.0));
+    assertThat(reusable.assertThat("Luke")).isSameAs(reusable.assertThat("Yoda"));
+    assertThat(reusable.assertThat(new Jedi("Yoda", "Green"))).isSameAs(reusable.assertThat((Object) null));
+  }
+
+  @Test
+  public void should_check_the_new_actual_value() {
+    reusable.assertThat(1).isEqualTo(1);
+    reusable.assertThat(2).isEqualTo(2).isPositive().isLessThan(3);
+    reusable.assertThat(3L).isGreaterThan(2L);
+    reusable.assertThat(-0.0).isZero();
+    reusable.assertThat("Yoda the Jedi").startsWith("Yoda").contains("Jedi");
+    reusable.assertThat(new Jedi("Yoda", "Green")).isInstanceOf(Jedi.class);
+  }
+
+  @Test
+  public void should_fail_like_a_new_assertion() {
+    Throwable reusableError = catchThrowable(() -> reusable.assertThat("Yoda").startsWith("Luke"));
+    Throwable newAssertionError = catchThrowable(() -> assertThat("Yoda").startsWith("Luke"));
+
+    assertThat(reusableError).isInstanceOf(AssertionError.class)
+                             .hasMessage(newAssertionError.getMessage());
+  }
+
+  @Test
+  public void should_not_keep_the_description_and_error_message_of_the_previous_assertion() {
+    reusable.assertThat(1).as("first").withFailMessage("first failed").isEqualTo(1);
+
+    Throwable error = catchThrowable(() -> reusable.assertThat(2).isEqualTo(3));
+
+    assertThat(error.getMessage()).doesNotContain("first");
+  }
+
+  @Test
+  public void should_not_keep_the_comparator_of_the_previous_assertion() {
+    reusable.assertThat(1).usingComparator((i1, i2) -> 0).isEqualTo(2).isLessThanOrEqualTo(0);
+    reusable.assertThat("Yoda").usingComparator((s1, s2) -> 0).isEqualTo("Luke");
+
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> reusable.assertThat(1).isEqualTo(2));
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> reusable.assertThat(1).isLessThanOrEqualTo(0));
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> reusable.assertThat("Yoda").isEqualTo("Luke"));
+  }
+
+  @Test
+  public void should_not_keep_the_representation_of_the_previous_assertion() {
+    reusable.assertThat(10).inHexadecimal().isEqualTo(10);
+
+    Throwable error = catchThrowable(() -> reusable.assertThat(10).isEqualTo(11));
+
+    assertThat(error.getMessage()).doesNotContain("0x");
+  }
+
+  @Test
+  public void should_give_each_thread_its_own_reusable_assertions() throws Exception {
+    AtomicReference<ReusableAssertions> otherThreadReusableAssertions = new AtomicReference<>();
+    Thread otherThread = new Thread(() -> otherThreadReusableAssertions.set(ReusableAssertions.forCurrentThread()));
+    otherThread.start();
+    otherThread.join();
+
+    assertThat(otherThreadReusableAssertions.get()).isNotNull()
+                                                   .isNotSameAs(reusable);
+    assertThat(ReusableAssertions.forCurrentThread()).isSameAs(reusable);
+  }
+
+  @Test
+  public void should_fail_if_used_from_another_thread() throws Exception {
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    Thread otherThread = new Thread(() -> error.set(catchThrowable(() -> reusable.assertThat(1).isEqualTo(1))));
+    otherThread.start();
+    otherThread.join();
+
+    assertThat(error.get()).isInstanceOf(IllegalStateException.class)
+                           .hasMessageContaining("used from thread");
+  }
+}
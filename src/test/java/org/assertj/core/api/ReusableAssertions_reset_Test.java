@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.assertj.core.presentation.HexadecimalRepresentation;
+import org.assertj.core.test.Jedi;
+import org.junit.Test;
+
+/**
+ * Checks that the assertions recycled by {@link ReusableAssertions} are reset to the state of new assertions.
+ * <p>
+ * Each class of the recycled assertions hierarchies must only declare the instance fields listed below, a field added
+ * to one of them must be reset by its {@code reset(actual)} method before being added to the list.
+ */
+public class ReusableAssertions_reset_Test {
+
+  private static final Map<Class<?>, List<String>> RESET_FIELDS = new HashMap<>();
+
+  static {
+    RESET_FIELDS.put(AbstractAssert.class, asList("objects", "conditions", "info", "actual", "myself"));
+    RESET_FIELDS.put(AbstractObjectAssert.class, asList("comparatorByPropertyOrField", "comparatorByType"));
+    RESET_FIELDS.put(AbstractComparableAssert.class, asList("comparables"));
+    RESET_FIELDS.put(AbstractIntegerAssert.class, asList("integers"));
+    RESET_FIELDS.put(AbstractLongAssert.class, asList("longs"));
+    RESET_FIELDS.put(AbstractDoubleAssert.class, asList("doubles", "isPrimitive"));
+    RESET_FIELDS.put(AbstractCharSequenceAssert.class, asList("strings"));
+    RESET_FIELDS.put(IntegerAssert.class, emptyList());
+    RESET_FIELDS.put(LongAssert.class, emptyList());
+    RESET_FIELDS.put(DoubleAssert.class, emptyList());
+    RESET_FIELDS.put(StringAssert.class, emptyList());
+    RESET_FIELDS.put(ObjectAssert.class, emptyList());
+  }
+
+  private static final Comparator<Object> ALWAYS_EQUAL = (o1, o2) -> 0;
+
+  private final ReusableAssertions reusable = ReusableAssertions.forCurrentThread();
+
+  @Test
+  public void should_reset_integer_assertion_to_the_state_of_a_new_one() {
+    dirty(reusable.assertThat(1));
+    assertSameState(reusable.assertThat(2), new IntegerAssert(2));
+  }
+
+  @Test
+  public void should_reset_long_assertion_to_the_state_of_a_new_one() {
+    dirty(reusable.assertThat(1L));
+    assertSameState(reusable.assertThat(2L), new LongAssert(2L));
+  }
+
+  @Test
+  public void should_reset_double_assertion_to_the_state_of_a_new_one() {
+    dirty(reusable.assertThat(1.0));
+    assertSameState(reusable.assertThat(2.0), new DoubleAssert(2.0));
+  }
+
+  @Test
+  public void should_reset_string_assertion_to_the_state_of_a_new_one() {
+    dirty(reusable.assertThat("Luke"));
+    assertSameState(reusable.assertThat("Yoda"), new StringAssert("Yoda"));
+  }
+
+  @Test
+  public void should_reset_object_assertion_to_the_state_of_a_new_one() {
+    Jedi yoda = new Jedi("Yoda", "Green");
+    dirty(reusable.assertThat(new Jedi("Luke", "Green")));
+    assertSameState(reusable.assertThat((Object) yoda), new ObjectAssert<>(yoda));
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static void dirty(AbstractAssert assertion) {
+    assertion.as("dirty")
+             .overridingErrorMessage("dirty")
+             .withRepresentation(new HexadecimalRepresentation())
+             .usingComparator(ALWAYS_EQUAL);
+    if (assertion instanceof AbstractObjectAssert) {
+      ((AbstractObjectAssert) assertion).usingComparatorForFields(ALWAYS_EQUAL, "name")
+                                        .usingComparatorForType(ALWAYS_EQUAL, String.class);
+    }
+    assertion.conditions = null;
+  }
+
+  private static void assertSameState(AbstractAssert<?, ?> recycled, AbstractAssert<?, ?> fresh) {
+    for (Class<?> type = recycled.getClass(); type != Object.class; type = type.getSuperclass()) {
+      List<Field> fields = instanceFieldsOf(type);
+      List<String> fieldNames = new ArrayList<>();
+      for (Field field : fields) {
+        fieldNames.add(field.getName());
+      }
+      assertThat(fieldNames).as("fields of %s reset by reset(actual)", type.getName())
+                            .containsOnlyElementsOf(RESET_FIELDS.getOrDefault(type, emptyList()));
+      for (Field field : fields) {
+        Object recycledValue = valueOf(field, recycled);
+        if (field.getName().equals("myself")) assertThat(recycledValue).isSameAs(recycled);
+        else assertSameState(recycledValue, valueOf(field, fresh), field.getName(),
+                             Collections.newSetFromMap(new IdentityHashMap<>()));
+      }
+    }
+  }
+
+  // recursively compares the internal objects (assertion info, comparison strategies ...) by their fields
+  private static void assertSameState(Object recycled, Object fresh, String path, Set<Object> visited) {
+    if (recycled == fresh) return;
+    if (recycled == null || fresh == null || recycled.getClass() != fresh.getClass()) {
+      fail("%s was not reset, expected <%s> but was <%s>", path, fresh, recycled);
+    }
+    if (!recycled.getClass().getName().startsWith("org.assertj.core.") || recycled instanceof Jedi) {
+      assertThat(recycled).as("%s was not reset", path).isEqualTo(fresh);
+      return;
+    }
+    if (!visited.add(recycled)) return;
+    for (Class<?> type = recycled.getClass(); type != Object.class; type = type.getSuperclass()) {
+      for (Field field : instanceFieldsOf(type)) {
+        assertSameState(valueOf(field, recycled), valueOf(field, fresh), path + "." + field.getName(), visited);
+      }
+    }
+  }
+
+  private static List<Field> instanceFieldsOf(Class<?> type) {
+    List<Field> fields = new ArrayList<>();
+    for (Field field : type.getDeclaredFields()) {
+      if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) fields.add(field);
+    }
+    return fields;
+  }
+
+  private static Object valueOf(Field field, Object object) {
+    try {
+      field.setAccessible(true);
+      return field.get(object);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
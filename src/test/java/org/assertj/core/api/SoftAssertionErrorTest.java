@@ -14,7 +14,11 @@ package org.assertj.core.api;
 
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.util.List;
+
+import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.Lists;
 import org.junit.Test;
 
@@ -32,4 +36,44 @@ public class SoftAssertionErrorTest {
     assertThat(error).hasMessage(format("%nThe following 2 assertions failed:%n1) One%n2) Two%n"));
   }
 
+  @Test
+  public void should_not_interpret_percent_characters_of_error_messages() {
+    SoftAssertionError error = new SoftAssertionError(Lists.newArrayList("100%", "%s %d %n"));
+    assertThat(error).hasMessage(format("%nThe following 2 assertions failed:%n1) 100%%%n2) %%s %%d %%n%n"));
+  }
+
+  @Test
+  public void should_only_describe_max_errors_in_message_and_count_the_other_ones() {
+    List<String> errors = Lists.newArrayList("One", "Two", "Three", "Four");
+    SoftAssertionError.setMaxErrorsInMessage(2);
+    try {
+      SoftAssertionError error = new SoftAssertionError(errors);
+      assertThat(error).hasMessage(format("%nThe following 4 assertions failed:%n1) One%n2) Two%n"
+                                          + "... and 2 more assertions failed%n"));
+      assertThat(error.getErrors()).containsExactly("One", "Two", "Three", "Four");
+    } finally {
+      SoftAssertionError.setMaxErrorsInMessage(Integer.MAX_VALUE);
+    }
+  }
+
+  @Test
+  public void should_cut_message_exceeding_max_length_for_error_message() {
+    StandardRepresentation.setMaxLengthForErrorMessage(40);
+    try {
+      SoftAssertionError error = new SoftAssertionError(Lists.newArrayList("One", "Two", "Three"));
+      String message = error.getMessage();
+      assertThat(message).endsWith("...(error message cut at 40 chars)")
+                         .hasSize(40 + "...(error message cut at 40 chars)".length());
+    } finally {
+      StandardRepresentation.resetDefaults();
+    }
+  }
+
+  @Test
+  public void should_fail_if_max_errors_in_message_is_less_than_one() {
+    Throwable thrown = catchThrowable(() -> SoftAssertionError.setMaxErrorsInMessage(0));
+    assertThat(thrown).isInstanceOf(IllegalArgumentException.class)
+                      .hasMessage("maxErrorsInMessage must be >= 1, but was 0");
+  }
+
 }
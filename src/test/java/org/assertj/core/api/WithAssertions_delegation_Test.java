@@ -24,6 +24,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Paths;
 import java.text.DateFormat;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -765,6 +766,14 @@ public class WithAssertions_delegation_Test implements WithAssertions {
     assertThat(t).hasMessage("message");
   }
 
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  public void withAssertions_eventually_Test() {
+    eventually(Duration.ofSeconds(1), () -> assertThat("foo").isEqualTo("foo"));
+  }
+
   @Test
   public void withAssertions_assertThat_predicate_Test() {
     Predicate<Boolean> predicate = b -> b;
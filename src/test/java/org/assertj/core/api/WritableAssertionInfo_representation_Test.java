@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+
+import org.assertj.core.presentation.HexadecimalRepresentation;
+import org.assertj.core.presentation.Representation;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link WritableAssertionInfo#representation()}</code>.
+ */
+public class WritableAssertionInfo_representation_Test {
+
+  @Test
+  public void should_return_the_default_representation_when_none_was_set() {
+    assertThat(new WritableAssertionInfo().representation()).isSameAs(CONFIGURATION_PROVIDER.representation());
+  }
+
+  @Test
+  public void should_return_the_default_representation_when_custom_representation_is_null() {
+    assertThat(new WritableAssertionInfo(null).representation()).isSameAs(CONFIGURATION_PROVIDER.representation());
+  }
+
+  @Test
+  public void should_return_the_custom_representation() {
+    Representation customRepresentation = new HexadecimalRepresentation();
+    assertThat(new WritableAssertionInfo(customRepresentation).representation()).isSameAs(customRepresentation);
+  }
+}
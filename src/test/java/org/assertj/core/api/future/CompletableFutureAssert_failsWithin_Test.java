@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api.future;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.error.future.ShouldHaveFailedWithin.shouldHaveFailedWithin;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.core.api.BaseTest;
+import org.junit.Test;
+
+public class CompletableFutureAssert_failsWithin_Test extends BaseTest {
+
+  @Test
+  public void should_allow_assertion_on_failure_cause() {
+    CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
+      throw new IllegalStateException("boom!");
+    });
+
+    assertThat(future).failsWithin(Duration.ofSeconds(10))
+                      .isInstanceOf(IllegalStateException.class)
+                      .hasMessage("boom!");
+  }
+
+  @Test
+  public void should_allow_assertion_on_failure_cause_within_time_unit() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    new Thread(() -> future.completeExceptionally(new IllegalStateException("boom!"))).start();
+
+    assertThat(future).failsWithin(10, SECONDS)
+                      .hasMessage("boom!");
+  }
+
+  @Test
+  public void should_fail_when_completable_future_is_null() {
+    Throwable error = catchThrowable(() -> assertThat((CompletableFuture<String>) null).failsWithin(Duration.ofMillis(1)));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessage(format(actualIsNull()));
+  }
+
+  @Test
+  public void should_fail_if_completable_future_does_not_complete_within_given_time() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+
+    Throwable error = catchThrowable(() -> assertThat(future).failsWithin(50, MILLISECONDS));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessage(shouldHaveFailedWithin(future, Duration.ofMillis(50)).create());
+  }
+
+  @Test
+  public void should_fail_if_completable_future_is_completed_normally() {
+    CompletableFuture<String> future = CompletableFuture.completedFuture("done");
+
+    Throwable error = catchThrowable(() -> assertThat(future).failsWithin(Duration.ofSeconds(1)));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessage(shouldHaveFailedWithin(future, Duration.ofSeconds(1), "done").create());
+  }
+
+  @Test
+  public void should_fail_if_completable_future_is_cancelled() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    future.cancel(true);
+
+    Throwable error = catchThrowable(() -> assertThat(future).failsWithin(Duration.ofSeconds(1)));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessage(shouldHaveFailedWithin(future, Duration.ofSeconds(1)).create());
+  }
+}
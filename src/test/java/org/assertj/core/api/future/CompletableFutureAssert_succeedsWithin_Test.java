@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api.future;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.BaseTest;
+import org.junit.Test;
+
+public class CompletableFutureAssert_succeedsWithin_Test extends BaseTest {
+
+  @Test
+  public void should_allow_assertion_on_future_result_when_completed_normally() {
+    CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> "done");
+
+    assertThat(future).succeedsWithin(Duration.ofSeconds(10))
+                      .isEqualTo("done");
+  }
+
+  @Test
+  public void should_allow_assertion_on_future_result_when_completed_normally_within_time_unit() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    new Thread(() -> future.complete("done")).start();
+
+    assertThat(future).succeedsWithin(10, SECONDS)
+                      .isEqualTo("done");
+  }
+
+  @Test
+  public void should_verify_many_futures_concurrently() {
+    List<CompletableFuture<Integer>> futures = IntStream.range(0, 1000)
+                                                        .mapToObj(i -> new CompletableFuture<Integer>())
+                                                        .collect(Collectors.toList());
+    Thread completer = new Thread(() -> IntStream.range(0, futures.size()).forEach(i -> futures.get(i).complete(i)));
+    completer.start();
+
+    IntStream.range(0, futures.size())
+             .parallel()
+             .forEach(i -> assertThat(futures.get(i)).succeedsWithin(Duration.ofSeconds(10)).isEqualTo(i));
+  }
+
+  @Test
+  public void should_fail_when_completable_future_is_null() {
+    Throwable error = catchThrowable(() -> assertThat((CompletableFuture<String>) null).succeedsWithin(Duration.ofMillis(1)));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessage(format(actualIsNull()));
+  }
+
+  @Test
+  public void should_fail_if_completable_future_does_not_complete_within_given_time() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+
+    Throwable error = catchThrowable(() -> assertThat(future).succeedsWithin(50, MILLISECONDS));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageStartingWith(format("%nExpecting%n  <CompletableFuture[Incomplete]>%n"
+                                                    + "to be completed within PT0.05S.%n"))
+                     .hasMessageContaining("java.util.concurrent.TimeoutException");
+  }
+
+  @Test
+  public void should_report_future_as_incomplete_even_if_it_completes_before_the_message_is_read() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    Throwable error = catchThrowable(() -> assertThat(future).succeedsWithin(10, MILLISECONDS));
+
+    future.complete("done");
+
+    assertThat(error).hasMessageStartingWith(format("%nExpecting%n  <CompletableFuture[Incomplete]>%n"));
+  }
+
+  @Test
+  public void should_fail_if_completable_future_has_failed() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    future.completeExceptionally(new IllegalStateException("boom!"));
+
+    Throwable error = catchThrowable(() -> assertThat(future).succeedsWithin(Duration.ofSeconds(1)));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("to be completed within PT1S.")
+                     .hasMessageContaining("java.lang.IllegalStateException: boom!");
+  }
+
+  @Test
+  public void should_fail_if_completable_future_is_cancelled() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    future.cancel(true);
+
+    Throwable error = catchThrowable(() -> assertThat(future).succeedsWithin(Duration.ofSeconds(1)));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("java.util.concurrent.CancellationException");
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api.future;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.error.future.ShouldHaveFailedWithin.shouldHaveFailedWithin;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.assertj.core.api.BaseTest;
+import org.junit.After;
+import org.junit.Test;
+
+public class FutureAssert_failsWithin_Test extends BaseTest {
+
+  private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @After
+  public void tearDown() {
+    release.countDown();
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void should_allow_assertion_on_failure_cause() {
+    Future<String> future = executorService.submit(() -> {
+      throw new IllegalStateException("boom!");
+    });
+
+    assertThat(future).failsWithin(Duration.ofSeconds(10))
+                      .isInstanceOf(IllegalStateException.class)
+                      .hasMessage("boom!");
+  }
+
+  @Test
+  public void should_allow_assertion_on_failure_cause_within_time_unit() {
+    Future<String> future = executorService.submit(() -> {
+      throw new IllegalStateException("boom!");
+    });
+
+    assertThat(future).failsWithin(10, SECONDS)
+                      .hasMessage("boom!");
+  }
+
+  @Test
+  public void should_fail_when_future_is_null() {
+    Throwable error = catchThrowable(() -> assertThat((Future<String>) null).failsWithin(Duration.ofMillis(1)));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessage(format(actualIsNull()));
+  }
+
+  @Test
+  public void should_fail_if_future_does_not_complete_within_given_time() {
+    Future<String> future = executorService.submit(() -> {
+      release.await();
+      return "done";
+    });
+
+    Throwable error = catchThrowable(() -> assertThat(future).failsWithin(50, MILLISECONDS));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("to have failed within PT0.05S");
+  }
+
+  @Test
+  public void should_fail_if_future_is_completed_normally() {
+    Future<String> future = executorService.submit(() -> "done");
+
+    Throwable error = catchThrowable(() -> assertThat(future).failsWithin(Duration.ofSeconds(10)));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessage(shouldHaveFailedWithin(future, Duration.ofSeconds(10), "done").create());
+  }
+}
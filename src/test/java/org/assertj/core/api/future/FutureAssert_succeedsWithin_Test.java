@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api.future;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.assertj.core.api.BaseTest;
+import org.junit.After;
+import org.junit.Test;
+
+public class FutureAssert_succeedsWithin_Test extends BaseTest {
+
+  private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @After
+  public void tearDown() {
+    release.countDown();
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void should_allow_assertion_on_future_result_when_completed_normally() {
+    Future<String> future = executorService.submit(() -> "done");
+
+    assertThat(future).succeedsWithin(Duration.ofSeconds(10))
+                      .isEqualTo("done");
+  }
+
+  @Test
+  public void should_allow_assertion_on_future_result_when_completed_normally_within_time_unit() {
+    Future<String> future = executorService.submit(() -> "done");
+
+    assertThat(future).succeedsWithin(10, SECONDS)
+                      .isEqualTo("done");
+  }
+
+  @Test
+  public void should_fail_when_future_is_null() {
+    Throwable error = catchThrowable(() -> assertThat((Future<String>) null).succeedsWithin(Duration.ofMillis(1)));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessage(format(actualIsNull()));
+  }
+
+  @Test
+  public void should_fail_if_future_does_not_complete_within_given_time() {
+    Future<String> future = executorService.submit(() -> {
+      release.await();
+      return "done";
+    });
+
+    Throwable error = catchThrowable(() -> assertThat(future).succeedsWithin(50, MILLISECONDS));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("to be completed within PT0.05S.")
+                     .hasMessageContaining("java.util.concurrent.TimeoutException");
+  }
+
+  @Test
+  public void should_fail_if_future_has_failed() {
+    Future<String> future = executorService.submit(() -> {
+      throw new IllegalStateException("boom!");
+    });
+
+    Throwable error = catchThrowable(() -> assertThat(future).succeedsWithin(Duration.ofSeconds(10)));
+
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining("to be completed within PT10S.")
+                     .hasMessageContaining("java.lang.IllegalStateException: boom!");
+  }
+}
@@ -37,6 +37,7 @@ public class IterableAssert_allMatch_Test extends IterableAssertBaseTest {
 
   @Override
   protected void verify_internal_effects() {
-    verify(iterables).assertAllMatch(getInfo(assertions), getActual(assertions), predicate, PredicateDescription.GIVEN);
+    verify(iterables).assertAllMatch(getInfo(assertions), getActual(assertions), predicate, PredicateDescription.GIVEN,
+                                     false);
   }
 }
@@ -38,6 +38,6 @@ public class IterableAssert_allMatch_with_description_Test extends IterableAsser
   @Override
   protected void verify_internal_effects() {
     verify(iterables)
-      .assertAllMatch(getInfo(assertions), getActual(assertions), predicate, new PredicateDescription("custom"));
+      .assertAllMatch(getInfo(assertions), getActual(assertions), predicate, new PredicateDescription("custom"), false);
   }
 }
@@ -37,6 +37,6 @@ public class IterableAssert_allSatisfy_Test extends IterableAssertBaseTest {
 
   @Override
   protected void verify_internal_effects() {
-    verify(iterables).assertAllSatisfy(getInfo(assertions), getActual(assertions), restrictions);
+    verify(iterables).assertAllSatisfy(getInfo(assertions), getActual(assertions), restrictions, false);
   }
 }
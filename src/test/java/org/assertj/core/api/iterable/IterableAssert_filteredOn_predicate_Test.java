@@ -41,6 +41,11 @@ public class IterableAssert_filteredOn_predicate_Test extends IterableAssert_fil
     assertThat(newHashSet(employees)).filteredOn(employee -> employee.getAge() > 100).containsOnly(yoda, obiwan);
   }
 
+  @Test
+  public void should_filter_iterable_under_test_on_predicate_in_parallel_keeping_iterable_order() {
+    assertThat(employees).inParallel().filteredOn(employee -> employee.getAge() > 100).containsExactly(yoda, obiwan);
+  }
+
   @Test
   public void should_fail_if_given_predicate_is_null() {
     thrown.expectIllegalArgumentException("The filter predicate should not be null");
@@ -37,6 +37,7 @@ public class IterableAssert_noneMatch_Test extends IterableAssertBaseTest {
 
   @Override
   protected void verify_internal_effects() {
-    verify(iterables).assertNoneMatch(getInfo(assertions), getActual(assertions), predicate, PredicateDescription.GIVEN);
+    verify(iterables).assertNoneMatch(getInfo(assertions), getActual(assertions), predicate, PredicateDescription.GIVEN,
+                                      false);
   }
 }
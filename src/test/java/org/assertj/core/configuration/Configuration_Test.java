@@ -0,0 +1,211 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.SoftAssertionError;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.After;
+import org.junit.Test;
+
+public class Configuration_Test {
+
+  private static final StandardRepresentation STANDARD_REPRESENTATION = new StandardRepresentation();
+
+  @After
+  public void afterTest() {
+    StandardRepresentation.resetDefaults();
+    StandardRepresentation.removeAllRegisteredFormatters();
+    Failures.instance().setMaxStackTraceDepth(Integer.MAX_VALUE);
+    SoftAssertionError.setMaxErrorsInMessage(Integer.MAX_VALUE);
+  }
+
+  @Test
+  public void should_use_the_global_configuration_when_none_is_installed() {
+    assertThat(Configuration.current()).isSameAs(Configuration.global());
+  }
+
+  @Test
+  public void should_have_the_historical_defaults() {
+    Configuration defaults = Configuration.defaults();
+    assertThat(defaults.customRepresentation()).isNull();
+    assertThat(defaults.maxLengthForSingleLineDescription()).isEqualTo(80);
+    assertThat(defaults.maxElementsForPrinting()).isEqualTo(1000);
+    assertThat(defaults.maxLengthForPrintedValue()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(defaults.maxLengthForErrorMessage()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(defaults.hasFormatters()).isFalse();
+    assertThat(defaults.removeAssertJRelatedElementsFromStackTrace()).isTrue();
+    assertThat(defaults.lenientDateParsing()).isFalse();
+    assertThat(defaults.maxStackTraceDepth()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(defaults.maxErrorsInSoftAssertionMessage()).isEqualTo(Integer.MAX_VALUE);
+  }
+
+  @Test
+  public void withers_should_return_a_new_configuration_and_leave_the_original_untouched() {
+    Configuration defaults = Configuration.defaults();
+    Configuration configuration = defaults.withMaxElementsForPrinting(5)
+                                          .withFormatterForType(Integer.class, i -> "int " + i);
+    assertThat(configuration.maxElementsForPrinting()).isEqualTo(5);
+    assertThat(configuration.hasFormatters()).isTrue();
+    assertThat(defaults.maxElementsForPrinting()).isEqualTo(1000);
+    assertThat(defaults.hasFormatters()).isFalse();
+    assertThat(configuration.withoutFormatters().hasFormatters()).isFalse();
+  }
+
+  @Test
+  public void withers_should_validate_their_argument() {
+    assertThatIllegalArgumentException().isThrownBy(() -> Configuration.defaults().withMaxElementsForPrinting(0))
+                                        .withMessage("maxElementsForPrinting must be >= 1, but was 0");
+    assertThatIllegalArgumentException().isThrownBy(() -> Configuration.defaults().withMaxLengthForPrintedValue(0))
+                                        .withMessage("maxLengthForPrintedValue must be >= 1, but was 0");
+    assertThatIllegalArgumentException().isThrownBy(() -> Configuration.defaults().withMaxStackTraceDepth(-1))
+                                        .withMessage("The maximum stack trace depth should not be negative but was -1");
+    assertThatIllegalArgumentException().isThrownBy(() -> Configuration.defaults()
+                                                                        .withMaxErrorsInSoftAssertionMessage(0))
+                                        .withMessage("maxErrorsInMessage must be >= 1, but was 0");
+  }
+
+  @Test
+  public void static_setters_should_update_the_global_configuration() {
+    StandardRepresentation.setMaxElementsForPrinting(3);
+    assertThat(Configuration.global().maxElementsForPrinting()).isEqualTo(3);
+    assertThat(STANDARD_REPRESENTATION.toStringOf(new int[] { 1, 2, 3, 4 })).isEqualTo("[1, 2, 3, ...]");
+  }
+
+  @Test
+  public void failures_and_soft_assertion_error_setters_should_update_the_global_configuration() {
+    Failures.instance().setMaxStackTraceDepth(5);
+    SoftAssertionError.setMaxErrorsInMessage(2);
+    assertThat(Configuration.global().maxStackTraceDepth()).isEqualTo(5);
+    assertThat(Configuration.global().maxErrorsInSoftAssertionMessage()).isEqualTo(2);
+    try (Configuration.Scope scope = Configuration.defaults().install()) {
+      assertThat(Failures.instance().getMaxStackTraceDepth()).isEqualTo(Integer.MAX_VALUE);
+      assertThat(SoftAssertionError.getMaxErrorsInMessage()).isEqualTo(Integer.MAX_VALUE);
+    }
+    assertThat(Failures.instance().getMaxStackTraceDepth()).isEqualTo(5);
+    assertThat(SoftAssertionError.getMaxErrorsInMessage()).isEqualTo(2);
+  }
+
+  @Test
+  public void installed_configuration_should_only_apply_to_the_current_thread() throws Exception {
+    Configuration configuration = Configuration.global().withMaxElementsForPrinting(2)
+                                               .withFormatterForType(Integer.class, i -> "int " + i);
+    AtomicReference<String> otherThreadRepresentation = new AtomicReference<>();
+    try (Configuration.Scope scope = configuration.install()) {
+      assertThat(Configuration.current()).isSameAs(configuration);
+      assertThat(STANDARD_REPRESENTATION.toStringOf(new int[] { 1, 2, 3 })).isEqualTo("[int 1, int 2, ...]");
+      Thread otherThread = new Thread(() -> otherThreadRepresentation.set(STANDARD_REPRESENTATION.toStringOf(new int[] {
+          1, 2, 3 })));
+      otherThread.start();
+      otherThread.join();
+    }
+    assertThat(otherThreadRepresentation.get()).isEqualTo("[1, 2, 3]");
+    assertThat(Configuration.current()).isSameAs(Configuration.global());
+  }
+
+  @Test
+  public void closing_a_scope_should_restore_the_previously_installed_configuration() {
+    Configuration outer = Configuration.defaults().withMaxLengthForPrintedValue(10);
+    Configuration inner = Configuration.defaults().withMaxLengthForPrintedValue(20);
+    try (Configuration.Scope outerScope = outer.install()) {
+      try (Configuration.Scope innerScope = inner.install()) {
+        assertThat(Configuration.current()).isSameAs(inner);
+      }
+      assertThat(Configuration.current()).isSameAs(outer);
+    }
+    assertThat(Configuration.current()).isSameAs(Configuration.global());
+  }
+
+  @Test
+  public void global_setters_should_not_override_an_installed_configuration() {
+    Configuration configuration = Configuration.defaults().withMaxLengthForPrintedValue(15);
+    try (Configuration.Scope scope = configuration.install()) {
+      StandardRepresentation.setMaxLengthForPrintedValue(7);
+      assertThat(StandardRepresentation.getMaxLengthForPrintedValue()).isEqualTo(15);
+    }
+    assertThat(StandardRepresentation.getMaxLengthForPrintedValue()).isEqualTo(7);
+  }
+
+  @Test
+  public void withers_should_only_change_their_own_setting() {
+    Representation representation = new StandardRepresentation();
+    Configuration configuration = Configuration.defaults()
+                                               .withCustomRepresentation(representation)
+                                               .withMaxLengthForSingleLineDescription(11)
+                                               .withMaxElementsForPrinting(12)
+                                               .withMaxLengthForPrintedValue(13)
+                                               .withMaxLengthForErrorMessage(14)
+                                               .withRemoveAssertJRelatedElementsFromStackTrace(false)
+                                               .withLenientDateParsing(true)
+                                               .withMaxStackTraceDepth(15)
+                                               .withMaxErrorsInSoftAssertionMessage(16);
+    assertThat(configuration.customRepresentation()).isSameAs(representation);
+    assertThat(configuration.maxLengthForSingleLineDescription()).isEqualTo(11);
+    assertThat(configuration.maxElementsForPrinting()).isEqualTo(12);
+    assertThat(configuration.maxLengthForPrintedValue()).isEqualTo(13);
+    assertThat(configuration.maxLengthForErrorMessage()).isEqualTo(14);
+    assertThat(configuration.removeAssertJRelatedElementsFromStackTrace()).isFalse();
+    assertThat(configuration.lenientDateParsing()).isTrue();
+    assertThat(configuration.maxStackTraceDepth()).isEqualTo(15);
+    assertThat(configuration.maxErrorsInSoftAssertionMessage()).isEqualTo(16);
+  }
+
+  @Test
+  public void closing_a_scope_before_the_scopes_installed_within_it_should_fail() {
+    Configuration outer = Configuration.defaults().withMaxLengthForPrintedValue(10);
+    Configuration inner = Configuration.defaults().withMaxLengthForPrintedValue(20);
+    Configuration.Scope outerScope = outer.install();
+    Configuration.Scope innerScope = inner.install();
+
+    assertThatIllegalStateException().isThrownBy(outerScope::close)
+                                     .withMessageEndingWith("after the scopes installed within it");
+
+    assertThat(Configuration.current()).isSameAs(inner);
+    innerScope.close();
+    outerScope.close();
+    assertThat(Configuration.current()).isSameAs(Configuration.global());
+  }
+
+  @Test
+  public void closing_a_scope_from_another_thread_should_fail() throws Exception {
+    Configuration configuration = Configuration.defaults().withMaxLengthForPrintedValue(10);
+    AtomicReference<Throwable> otherThreadError = new AtomicReference<>();
+    try (Configuration.Scope scope = configuration.install()) {
+      Thread otherThread = new Thread(() -> otherThreadError.set(catchThrowable(scope::close)), "other");
+      otherThread.start();
+      otherThread.join();
+      assertThat(Configuration.current()).isSameAs(configuration);
+    }
+    assertThat(otherThreadError.get()).isInstanceOf(IllegalStateException.class)
+                                      .hasMessageEndingWith("but was closed by other");
+  }
+
+  @Test
+  public void closing_a_scope_twice_should_have_no_effect() {
+    Configuration outer = Configuration.defaults().withMaxLengthForPrintedValue(10);
+    try (Configuration.Scope outerScope = outer.install()) {
+      Configuration.Scope innerScope = Configuration.defaults().install();
+      innerScope.close();
+      innerScope.close();
+      assertThat(Configuration.current()).isSameAs(outer);
+    }
+  }
+}
@@ -37,4 +37,24 @@ public class ConstructorInvoker_newInstance_Test {
     assertThat(o).isInstanceOf(Exception.class);
     assertThat((Exception) o).hasMessage("Hi");
   }
+
+  @Test
+  public void should_fail_if_class_is_not_in_classpath() {
+    assertThatExceptionOfType(NoSuchMethodException.class).isThrownBy(() -> invoker.newInstance("org.Unknown",
+                                                                                                new Class<?>[0]));
+  }
+
+  @Test
+  public void should_fail_if_class_has_no_constructor_with_given_parameter_types() {
+    assertThatExceptionOfType(NoSuchMethodException.class).isThrownBy(() -> invoker.newInstance("java.lang.Exception",
+                                                                                                new Class<?>[] {
+                                                                                                    Integer.class }));
+  }
+
+  @Test
+  public void should_tell_whether_class_can_be_instantiated_with_given_parameter_types() {
+    assertThat(invoker.canInstantiate("java.lang.Exception", new Class<?>[] { String.class })).isTrue();
+    assertThat(invoker.canInstantiate("java.lang.Exception", new Class<?>[] { Integer.class })).isFalse();
+    assertThat(invoker.canInstantiate("org.Unknown", new Class<?>[0])).isFalse();
+  }
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link LazyMessageAssertionError#decorateMessage(java.util.function.UnaryOperator)}</code>.
+ */
+public class LazyMessageAssertionError_decorateMessage_Test {
+
+  private Supplier<String> messageSupplier;
+  private LazyMessageAssertionError error;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    messageSupplier = mock(Supplier.class);
+    when(messageSupplier.get()).thenReturn("Yoda");
+    error = new LazyMessageAssertionError(messageSupplier);
+  }
+
+  @Test
+  public void should_decorate_message_without_building_it() {
+    error.decorateMessage(message -> message + " and Luke");
+    verifyZeroInteractions(messageSupplier);
+    assertThat(error).hasMessage("Yoda and Luke");
+    verify(messageSupplier, times(1)).get();
+  }
+
+  @Test
+  public void should_decorate_message_already_built() {
+    error.getMessage();
+    error.decorateMessage(message -> message + " and Luke");
+    assertThat(error).hasMessage("Yoda and Luke");
+  }
+
+  @Test
+  public void should_apply_decorators_in_order() {
+    error.decorateMessage(message -> message + " and Luke");
+    error.decorateMessage(message -> message + " and Leia");
+    assertThat(error).hasMessage("Yoda and Luke and Leia");
+  }
+}
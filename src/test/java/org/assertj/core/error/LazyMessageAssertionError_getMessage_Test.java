@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link LazyMessageAssertionError#getMessage()}</code>.
+ */
+public class LazyMessageAssertionError_getMessage_Test {
+
+  private Supplier<String> messageSupplier;
+  private LazyMessageAssertionError error;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    messageSupplier = mock(Supplier.class);
+    when(messageSupplier.get()).thenReturn("Yoda");
+    error = new LazyMessageAssertionError(messageSupplier);
+  }
+
+  @Test
+  public void should_not_build_message_before_it_is_requested() {
+    verifyZeroInteractions(messageSupplier);
+  }
+
+  @Test
+  public void should_build_message_when_requested() {
+    assertThat(error.getMessage()).isEqualTo("Yoda");
+    assertThat(error.toString()).isEqualTo(LazyMessageAssertionError.class.getName() + ": Yoda");
+  }
+
+  @Test
+  public void should_build_message_only_once() {
+    error.getMessage();
+    error.getLocalizedMessage();
+    error.toString();
+    verify(messageSupplier, times(1)).get();
+  }
+}
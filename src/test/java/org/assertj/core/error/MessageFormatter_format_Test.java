@@ -12,10 +12,13 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
 import static org.assertj.core.test.ExpectedException.none;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import java.util.MissingFormatArgumentException;
 
 import org.assertj.core.description.*;
 import org.assertj.core.presentation.Representation;
@@ -64,4 +67,36 @@ public class MessageFormatter_format_Test {
     assertThat(s).isEqualTo("[Test] Hello \"World\"");
     verify(descriptionFormatter).format(description);
   }
+
+  @Test
+  public void should_append_arguments_representation_to_message() {
+    Representation representation = new StandardRepresentation();
+    String s = messageFormatter.format(null, representation, "%s%n100%% %s", asList("a", 1L), null);
+    assertThat(s).isEqualTo(format("[\"a\", 1L]%n100%% null"));
+  }
+
+  @Test
+  public void should_format_message_with_other_format_specifiers_like_String_format() {
+    Representation representation = new StandardRepresentation();
+    String s = messageFormatter.format(null, representation, "%-5s|%2$s", "a", "b");
+    assertThat(s).isEqualTo("\"a\"  |\"b\"");
+  }
+
+  @Test
+  public void should_throw_error_if_format_has_more_specifiers_than_arguments() {
+    thrown.expect(MissingFormatArgumentException.class);
+    messageFormatter.format(null, new StandardRepresentation(), "%s %s", "a");
+  }
+
+  @Test
+  public void should_cut_message_exceeding_max_length_for_error_message() {
+    StandardRepresentation.setMaxLengthForErrorMessage(20);
+    try {
+      String s = messageFormatter.format(null, new StandardRepresentation(), "Expecting %s to be empty",
+                                         asList("abcdefghij", "klmnopqrst"));
+      assertThat(s).isEqualTo("Expecting [\"abcdefgh...(error message cut at 20 chars)");
+    } finally {
+      StandardRepresentation.resetDefaults();
+    }
+  }
 }
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.error;
 
+import static java.util.Collections.nCopies;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
 
@@ -66,4 +67,22 @@ public class ShouldBeEqual_newAssertionError_Test {
     assertThat(error).isInstanceOf(ComparisonFailure.class)
                      .hasMessage("[Jedi] expected:<\"[Yoda]\"> but was:<\"[Luke]\">");
   }
+
+  @Test
+  public void should_cut_expected_and_actual_of_ComparisonFailure_to_max_length_for_error_message() {
+    // GIVEN
+    StandardRepresentation.setMaxLengthForErrorMessage(20);
+    StandardRepresentation.setMaxElementsForPrinting(Integer.MAX_VALUE);
+    try {
+      factory = (ShouldBeEqual) shouldBeEqual(nCopies(1_000_000, 1), nCopies(1_000_000, 2), new StandardRepresentation());
+      // WHEN
+      ComparisonFailure error = (ComparisonFailure) factory.newAssertionError(description, new StandardRepresentation());
+      // THEN
+      String cutSuffix = "...(error message cut at 20 chars)";
+      assertThat(error.getExpected()).startsWith("[2,").endsWith(cutSuffix).hasSize(20 + cutSuffix.length());
+      assertThat(error.getActual()).startsWith("[1,").endsWith(cutSuffix).hasSize(20 + cutSuffix.length());
+    } finally {
+      StandardRepresentation.resetDefaults();
+    }
+  }
 }
@@ -14,14 +14,18 @@ package org.assertj.core.error;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
+import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import org.assertj.core.description.Description;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.TestDescription;
+import org.assertj.core.presentation.Representation;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.junit.Before;
 import org.junit.ComparisonFailure;
@@ -59,6 +63,7 @@ public class ShouldBeEqual_newAssertionError_without_JUnit_and_OTA4J_Test {
   @Test
   public void should_create_AssertionError_if_created_ComparisonFailure_and_AssertionFailedError_is_null()
                                                                                                            throws Exception {
+    when(constructorInvoker.canInstantiate(any(String.class), any(Class[].class))).thenReturn(true);
     when(constructorInvoker.newInstance(any(String.class), any(Class[].class), any(Object[].class))).thenReturn(null);
     AssertionError error = factory.newAssertionError(description, new StandardRepresentation());
     check(error);
@@ -66,12 +71,35 @@ public class ShouldBeEqual_newAssertionError_without_JUnit_and_OTA4J_Test {
 
   @Test
   public void should_create_AssertionError_if_error_is_thrown_when_creating_ComparisonFailure() throws Exception {
+    when(constructorInvoker.canInstantiate(any(String.class), any(Class[].class))).thenReturn(true);
     when(constructorInvoker.newInstance(any(String.class), any(Class[].class),
                                         any(Object[].class))).thenThrow(new AssertionError("Thrown on purpose"));
     AssertionError error = factory.newAssertionError(description, new StandardRepresentation());
     check(error);
   }
 
+  @Test
+  public void should_create_AssertionError_without_reflection_if_ComparisonFailure_and_AssertionFailedError_are_not_available()
+                                                                                                                          throws Exception {
+    when(constructorInvoker.canInstantiate(any(String.class), any(Class[].class))).thenReturn(false);
+    AssertionError error = factory.newAssertionError(description, new StandardRepresentation());
+    verify(constructorInvoker, never()).newInstance(any(String.class), any(Class[].class), any(Object[].class));
+    assertThat(error).isNotInstanceOf(ComparisonFailure.class)
+                     .isNotInstanceOf(AssertionFailedError.class);
+    assertThat(error.getMessage()).isEqualTo(String.format("[Jedi] %nExpecting:%n <\"Luke\">%nto be equal to:%n <\"Yoda\">%nbut was not."));
+  }
+
+  @Test
+  public void should_not_format_values_until_the_AssertionError_message_is_read() {
+    when(constructorInvoker.canInstantiate(any(String.class), any(Class[].class))).thenReturn(false);
+    Representation representation = mock(Representation.class);
+    factory = (ShouldBeEqual) shouldBeEqual(newArrayList("Luke"), newArrayList("Yoda"), representation);
+    factory.constructorInvoker = constructorInvoker;
+    AssertionError error = factory.newAssertionError(description, representation);
+    assertThat(error).isNotNull();
+    verifyZeroInteractions(representation);
+  }
+
   private void check(AssertionError error) throws Exception {
     verify(constructorInvoker).newInstance(ComparisonFailure.class.getName(),
                                            new Class<?>[] { String.class, String.class, String.class },
@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.error.future;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.future.ShouldBeCompletedWithin.shouldBeCompletedWithin;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import org.assertj.core.internal.TestDescription;
+import org.junit.Test;
+
+public class ShouldBeCompletedWithin_create_Test {
+
+  @Test
+  public void should_create_error_message() {
+    String error = shouldBeCompletedWithin(new CompletableFuture<>(), Duration.ofSeconds(2),
+                                           new TimeoutException("timeout")).create(new TestDescription("TEST"));
+
+    assertThat(error).isEqualTo(format("[TEST] %n" +
+                                       "Expecting%n" +
+                                       "  <CompletableFuture[Incomplete]>%n" +
+                                       "to be completed within PT2S.%n" +
+                                       "%n" +
+                                       "exception caught while trying to get the future result:%n" +
+                                       "  <java.util.concurrent.TimeoutException: timeout>"));
+  }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.error.future;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.future.ShouldHaveFailedWithin.shouldHaveFailedWithin;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.core.internal.TestDescription;
+import org.junit.Test;
+
+public class ShouldHaveFailedWithin_create_Test {
+
+  @Test
+  public void should_create_error_message() {
+    String error = shouldHaveFailedWithin(new CompletableFuture<>(), Duration.ofSeconds(2)).create(new TestDescription("TEST"));
+
+    assertThat(error).isEqualTo(format("[TEST] %n" +
+                                       "Expecting%n" +
+                                       "  <CompletableFuture[Incomplete]>%n" +
+                                       "to have failed within PT2S (i.e. completed exceptionally and not cancelled)."));
+  }
+
+  @Test
+  public void should_create_error_message_with_result() {
+    CompletableFuture<String> future = CompletableFuture.completedFuture("done");
+    String error = shouldHaveFailedWithin(future, Duration.ofSeconds(2), "done").create(new TestDescription("TEST"));
+
+    assertThat(error).isEqualTo(format("[TEST] %n" +
+                                       "Expecting%n" +
+                                       "  <CompletableFuture[Completed: \"done\"]>%n" +
+                                       "to have failed within PT2S (i.e. completed exceptionally and not cancelled) " +
+                                       "but it completed with:%n" +
+                                       "  <\"done\">"));
+  }
+
+}
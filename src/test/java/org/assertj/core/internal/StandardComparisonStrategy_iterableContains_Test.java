@@ -12,11 +12,24 @@
  */
 package org.assertj.core.internal;
 
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static org.assertj.core.data.MapEntry.entry;
+import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Sets.newHashSet;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.math.BigDecimal;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.internal.StandardComparisonStrategy;
 import org.junit.Test;
@@ -41,4 +54,47 @@ public class StandardComparisonStrategy_iterableContains_Test extends AbstractTe
     assertThat(standardComparisonStrategy.iterableContains(null, "Sauron")).isFalse();
   }
 
+  @Test
+  public void should_find_values_in_hash_based_collections() {
+    Set<String> set = newHashSet(asList("Sam", "Merry", null, "Frodo"));
+    Map<String, Integer> map = new ConcurrentHashMap<>();
+    map.put("Frodo", 33);
+    assertThat(standardComparisonStrategy.iterableContains(set, "Frodo")).isTrue();
+    assertThat(standardComparisonStrategy.iterableContains(set, null)).isTrue();
+    assertThat(standardComparisonStrategy.iterableContains(set, "Sauron")).isFalse();
+    assertThat(standardComparisonStrategy.iterableContains(map.keySet(), "Frodo")).isTrue();
+    // ConcurrentHashMap rejects null lookups
+    assertThat(standardComparisonStrategy.iterableContains(map.keySet(), null)).isFalse();
+    assertThat(standardComparisonStrategy.iterableContains(map.entrySet(), entry("Frodo", 33))).isTrue();
+    assertThat(standardComparisonStrategy.iterableContains(EnumSet.of(DAYS, HOURS), HOURS)).isTrue();
+    assertThat(standardComparisonStrategy.iterableContains(EnumSet.of(DAYS, HOURS), "HOURS")).isFalse();
+  }
+
+  @Test
+  public void should_find_values_in_sorted_sets_with_equals() {
+    Set<Object> sortedSet = new TreeSet<>(asList(new BigDecimal("1.0"), new BigDecimal("2.0")));
+    assertThat(standardComparisonStrategy.iterableContains(sortedSet, new BigDecimal("1.0"))).isTrue();
+    // compareTo considers 1.0 and 1.00 are equal but equals does not
+    assertThat(standardComparisonStrategy.iterableContains(sortedSet, new BigDecimal("1.00"))).isFalse();
+    assertThat(standardComparisonStrategy.iterableContains(sortedSet, new BigDecimal("3.0"))).isFalse();
+    // not comparable with the set elements
+    assertThat(standardComparisonStrategy.iterableContains(sortedSet, "1.0")).isFalse();
+    assertThat(standardComparisonStrategy.iterableContains(sortedSet, null)).isFalse();
+  }
+
+  @Test
+  public void should_not_use_sorted_set_comparator_to_find_values() {
+    Set<String> sortedSet = new TreeSet<>(CASE_INSENSITIVE_ORDER);
+    sortedSet.add("Frodo");
+    assertThat(standardComparisonStrategy.iterableContains(sortedSet, "Frodo")).isTrue();
+    assertThat(standardComparisonStrategy.iterableContains(sortedSet, "FRODO")).isFalse();
+  }
+
+  @Test
+  public void should_compare_array_values_by_content_in_sets() {
+    Set<Object> set = newHashSet(asList(array("Frodo", "Sam"), "Merry"));
+    assertThat(standardComparisonStrategy.iterableContains(set, array("Frodo", "Sam"))).isTrue();
+    assertThat(standardComparisonStrategy.iterableContains(set, array("Frodo"))).isFalse();
+  }
+
 }
@@ -95,12 +95,55 @@ public class TypeComparators_Test {
     assertThat(i5).isNull();
   }
 
+  @Test
+  public void should_still_find_no_comparator_once_its_absence_is_cached() {
+    typeComparators.put(Foo.class, newComparator());
+    assertThat(typeComparators.get(I5.class)).isNull();
+
+    assertThat(typeComparators.get(I5.class)).isNull();
+  }
+
   @Test
   public void should_be_empty() {
     typeComparators.typeComparators.clear();
     assertThat(typeComparators.isEmpty()).isTrue();
   }
 
+  @Test
+  public void should_not_mix_classes_with_same_simple_name() {
+    Comparator<Outer1.Homonym> homonym1Comparator = newComparator();
+    Comparator<Outer2.Homonym> homonym2Comparator = newComparator();
+    typeComparators.put(Outer1.Homonym.class, homonym1Comparator);
+    typeComparators.put(Outer2.Homonym.class, homonym2Comparator);
+
+    assertThat(typeComparators.get(Outer1.Homonym.class)).isSameAs(homonym1Comparator);
+    assertThat(typeComparators.get(Outer2.Homonym.class)).isSameAs(homonym2Comparator);
+  }
+
+  @Test
+  public void should_find_comparator_registered_after_a_previous_lookup() {
+    assertThat(typeComparators.get(Foo.class)).isNull();
+    Comparator<Bar> barComparator = newComparator();
+    typeComparators.put(Bar.class, barComparator);
+
+    assertThat(typeComparators.get(Foo.class)).isSameAs(barComparator);
+
+    Comparator<Foo> fooComparator = newComparator();
+    typeComparators.put(Foo.class, fooComparator);
+
+    assertThat(typeComparators.get(Foo.class)).isSameAs(fooComparator);
+  }
+
+  @Test
+  public void should_describe_registered_comparators_ordered_by_class_simple_name() {
+    Comparator<Foo> fooComparator = newComparator();
+    Comparator<Bar> barComparator = newComparator();
+    typeComparators.put(Foo.class, fooComparator);
+    typeComparators.put(Bar.class, barComparator);
+
+    assertThat(typeComparators.toString()).isEqualTo("{Bar -> " + barComparator + ", Foo -> " + fooComparator + "}");
+  }
+
   private static <T> Comparator<T> newComparator() {
     return new Comparator<T>() {
       @Override
@@ -133,4 +176,14 @@ public class TypeComparators_Test {
 
   }
 
+  private static class Outer1 {
+    private static class Homonym {
+    }
+  }
+
+  private static class Outer2 {
+    private static class Homonym {
+    }
+  }
+
 }
@@ -13,15 +13,24 @@
 package org.assertj.core.internal.failures;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.description.Description;
+import org.assertj.core.error.BasicErrorMessageFactory;
 import org.assertj.core.error.ErrorMessageFactory;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.TestDescription;
+import org.assertj.core.presentation.Representation;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -58,4 +67,41 @@ public class Failures_failure_with_ErrorMessage_Test {
     AssertionError failure = failures.failure(info, errorMessage);
     assertThat(failure).hasMessage("[description] my message");
   }
+
+  @Test
+  public void should_only_create_message_when_it_is_requested() {
+    BasicErrorMessageFactory basicErrorMessage = spy(new BasicErrorMessageFactory("my message"));
+    AssertionError failure = failures.failure(info, basicErrorMessage);
+    verify(basicErrorMessage, never()).create(any(Description.class), any(Representation.class));
+    assertThat(failure).hasMessage("my message");
+  }
+
+  @Test
+  public void should_not_format_values_of_a_failure_whose_message_is_not_read() {
+    Representation representation = mock(Representation.class);
+    info.useRepresentation(representation);
+    AssertionError failure = failures.failure(info, new BasicErrorMessageFactory("%s", newArrayList("Luke")));
+    assertThat(failure).isNotNull();
+    verifyZeroInteractions(representation);
+  }
+
+  @Test
+  public void should_create_message_with_the_configuration_at_failure_time() {
+    AssertionError failure;
+    try (Configuration.Scope scope = Configuration.defaults().withMaxElementsForPrinting(2)
+                                                 .withMaxLengthForErrorMessage(10).install()) {
+      failure = failures.failure(info, new BasicErrorMessageFactory("%s and more", newArrayList(1, 2, 3)));
+    }
+    assertThat(failure).hasMessage("[1, 2, ......(error message cut at 10 chars)");
+  }
+
+  @Test
+  public void should_create_message_with_the_description_at_failure_time() {
+    Description description = new TestDescription("description");
+    info.description(description);
+    when(errorMessage.create(description, info.representation())).thenReturn("[description] my message");
+    AssertionError failure = failures.failure(info, errorMessage);
+    info.description(new TestDescription("changed after failure"));
+    assertThat(failure).hasMessage("[description] my message");
+  }
 }
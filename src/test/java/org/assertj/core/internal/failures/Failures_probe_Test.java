@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal.failures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Consumer;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.Failures;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Failures#probe(Object, Consumer)}</code>.
+ */
+public class Failures_probe_Test {
+
+  private WritableAssertionInfo info;
+  private ErrorMessageFactory errorMessage;
+  private Failures failures;
+  private AssertionError probeFailure;
+
+  @Before
+  public void setUp() {
+    info = new WritableAssertionInfo();
+    errorMessage = mock(ErrorMessageFactory.class);
+    when(errorMessage.create(info.description(), info.representation())).thenReturn("my message");
+    failures = Failures.instance();
+  }
+
+  @Test
+  public void should_return_true_when_requirements_are_satisfied() {
+    assertThat(failures.probe("Yoda", s -> assertThat(s).startsWith("Yo"))).isTrue();
+  }
+
+  @Test
+  public void should_return_false_when_requirements_are_not_satisfied() {
+    assertThat(failures.probe("Yoda", s -> assertThat(s).startsWith("Lu"))).isFalse();
+  }
+
+  @Test
+  public void should_create_stackless_failures_with_lazily_formatted_message_while_probing() {
+    failures.probe("Yoda", s -> {
+      probeFailure = failures.failure(info, errorMessage);
+      throw probeFailure;
+    });
+    assertThat(probeFailure.getStackTrace()).isEmpty();
+    verify(errorMessage, never()).create(info.description(), info.representation());
+    assertThat(probeFailure).hasMessage("my message");
+  }
+
+  @Test
+  public void should_use_overriding_error_message_while_probing() {
+    info.overridingErrorMessage("overridden");
+    failures.probe("Yoda", s -> {
+      probeFailure = failures.failure(info, errorMessage);
+      throw probeFailure;
+    });
+    assertThat(probeFailure).hasMessage("overridden");
+  }
+
+  @Test
+  public void should_create_regular_failures_once_probing_is_over() {
+    failures.probe("Yoda", s -> assertThat(s).isEmpty());
+    AssertionError failure = failures.failure(info, errorMessage);
+    assertThat(failure.getStackTrace()).isNotEmpty();
+    assertThat(failure).hasMessage("my message");
+  }
+
+  @Test
+  public void should_only_probe_failures_created_by_the_probing_thread() throws Exception {
+    failures.probe("Yoda", s -> {
+      Thread thread = new Thread(() -> probeFailure = failures.failure(info, errorMessage));
+      thread.start();
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    assertThat(probeFailure.getStackTrace()).isNotEmpty();
+  }
+}
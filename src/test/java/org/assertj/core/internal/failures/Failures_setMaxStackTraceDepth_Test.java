@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal.failures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.assertj.core.internal.Failures;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Failures#setMaxStackTraceDepth(int)}</code>.
+ */
+public class Failures_setMaxStackTraceDepth_Test {
+
+  private Failures failures = Failures.instance();
+
+  @After
+  public void tearDown() {
+    failures.setMaxStackTraceDepth(Integer.MAX_VALUE);
+    failures.setRemoveAssertJRelatedElementsFromStackTrace(true);
+  }
+
+  @Test
+  public void should_truncate_stack_trace_of_failures() {
+    // stack traces are only truncated when they are filtered
+    failures.setRemoveAssertJRelatedElementsFromStackTrace(true);
+    failures.setMaxStackTraceDepth(1);
+    AssertionError failure = failures.failure("Yoda");
+    assertThat(failure.getStackTrace()).hasSize(1);
+  }
+
+  @Test
+  public void should_not_truncate_stack_trace_of_failures_by_default() {
+    AssertionError failure = failures.failure("Yoda");
+    assertThat(failure.getStackTrace().length).isGreaterThan(1);
+  }
+
+  @Test
+  public void should_fail_if_max_depth_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> failures.setMaxStackTraceDepth(-1));
+  }
+}
@@ -12,6 +12,8 @@
  */
 package org.assertj.core.internal.iterables;
 
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.rangeClosed;
 import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
 import static org.assertj.core.test.TestData.someInfo;
 import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
@@ -79,4 +81,17 @@ public class Iterables_assertAllMatch_Test extends IterablesBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_report_all_items_that_do_not_match_in_encounter_order_in_parallel() {
+    List<Integer> numbers = rangeClosed(1, 10_000).boxed().collect(toList());
+    try {
+      iterables.assertAllMatch(info, numbers, i -> i % 1_000 != 0, PredicateDescription.GIVEN, true);
+    } catch (AssertionError e) {
+      List<Integer> nonMatches = rangeClosed(1, 10).map(i -> i * 1_000).boxed().collect(toList());
+      verify(failures).failure(info, elementsShouldMatch(numbers, nonMatches, PredicateDescription.GIVEN));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
 }
@@ -13,6 +13,8 @@
 package org.assertj.core.internal.iterables;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.rangeClosed;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfy;
 import static org.assertj.core.test.TestData.someInfo;
@@ -24,6 +26,7 @@ import static org.mockito.Mockito.verify;
 import java.util.List;
 import java.util.function.Consumer;
 
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.junit.Test;
 
@@ -75,4 +78,36 @@ public class Iterables_assertAllSatisfy_Test extends IterablesBaseTest {
     actual = null;
     assertThat(actual).allSatisfy(null);
   }
+
+  @Test
+  public void should_satisfy_requirements_in_parallel() {
+    List<Integer> numbers = rangeClosed(1, 10_000).boxed().collect(toList());
+    iterables.assertAllSatisfy(someInfo(), numbers, i -> assertThat(i).isPositive(), true);
+  }
+
+  @Test
+  public void should_report_first_element_not_satisfying_requirements_in_parallel() {
+    List<Integer> numbers = rangeClosed(1, 10_000).boxed().collect(toList());
+    try {
+      iterables.assertAllSatisfy(info, numbers, i -> assertThat(i).isLessThan(5_000), true);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, elementsShouldSatisfy(numbers, 5_000, format("%n" +
+                                                                                  "Expecting:%n" +
+                                                                                  " <5000>%n" +
+                                                                                  "to be less than:%n" +
+                                                                                  " <5000> ")));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_evaluate_requirements_in_parallel_with_the_caller_configuration() {
+    List<Integer> numbers = rangeClosed(1, 10_000).boxed().collect(toList());
+    Configuration configuration = Configuration.defaults().withMaxElementsForPrinting(3);
+    try (Configuration.Scope scope = configuration.install()) {
+      iterables.assertAllSatisfy(someInfo(), numbers, i -> assertThat(Configuration.current()).isSameAs(configuration),
+                                 true);
+    }
+  }
 }
@@ -19,6 +19,8 @@ import org.assertj.core.internal.IterablesBaseTest;
 import org.assertj.core.presentation.PredicateDescription;
 import org.junit.Test;
 
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.rangeClosed;
 import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
 import static org.assertj.core.test.TestData.someInfo;
 import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
@@ -68,4 +70,16 @@ public class Iterables_assertNoneMatch_Test extends IterablesBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_report_first_matching_element_in_parallel() {
+    List<Integer> numbers = rangeClosed(1, 10_000).boxed().collect(toList());
+    try {
+      iterables.assertNoneMatch(info, numbers, i -> i % 1_000 == 0, PredicateDescription.GIVEN, true);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, noElementsShouldMatch(numbers, 1_000, PredicateDescription.GIVEN));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
 }
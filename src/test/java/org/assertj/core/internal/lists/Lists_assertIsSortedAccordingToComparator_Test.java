@@ -22,6 +22,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
 import java.util.Comparator;
+import java.util.LinkedList;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
@@ -130,4 +131,23 @@ public class Lists_assertIsSortedAccordingToComparator_Test extends ListsBaseTes
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_sequential_actual_is_sorted_according_to_given_comparator() {
+    lists.assertIsSortedAccordingToComparator(someInfo(),
+                                              new LinkedList<>(newArrayList("Yoda", "Vador", "Luke", "Leia", "Leia")),
+                                              stringDescendingOrderComparator);
+  }
+
+  @Test
+  public void should_fail_if_sequential_actual_is_not_sorted_according_to_given_comparator() {
+    AssertionInfo info = someInfo();
+    List<String> actual = new LinkedList<>(newArrayList("Yoda", "Vador", "Leia", "Leia", "Luke"));
+    try {
+      lists.assertIsSortedAccordingToComparator(info, actual, stringDescendingOrderComparator);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeSortedAccordingToGivenComparator(3, actual, stringDescendingOrderComparator));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
 }
@@ -21,6 +21,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 
 import static org.mockito.Mockito.verify;
 
+import java.util.LinkedList;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
@@ -133,4 +134,34 @@ public class Lists_assertIsSorted_Test extends ListsBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_sequential_actual_is_sorted_in_ascending_order() {
+    lists.assertIsSorted(someInfo(), new LinkedList<>(actual));
+  }
+
+  @Test
+  public void should_fail_if_sequential_actual_is_not_sorted_in_ascending_order() {
+    AssertionInfo info = someInfo();
+    List<String> actual = new LinkedList<>(newArrayList("Luke", "Yoda", "Leia"));
+    try {
+      lists.assertIsSorted(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeSorted(1, actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_sorted_before_having_a_non_comparable_element() {
+    AssertionInfo info = someInfo();
+    List<Object> actual = newArrayList("foo", "bar", new Object());
+    try {
+      lists.assertIsSorted(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveMutuallyComparableElements(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
 }
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.maps;
 
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.shouldHaveThrown;
@@ -24,7 +25,9 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.mockito.Mockito.verify;
 
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.MapsBaseTest;
@@ -110,6 +113,61 @@ public class Maps_assertContainsOnlyKeys_Test extends MapsBaseTest {
     shouldHaveThrown(AssertionError.class);
   }
 
+  @Test
+  public void should_pass_if_actual_contains_only_expected_keys_according_to_actual_key_comparator() {
+    Map<String, String> underTest = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+    underTest.putAll(actual);
+    maps.assertContainsOnlyKeys(someInfo(), underTest, "COLOR", "Name");
+  }
+
+  @Test
+  public void should_fail_if_expected_key_is_found_twice_according_to_actual_key_comparator() {
+    AssertionInfo info = someInfo();
+    Map<String, String> underTest = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+    underTest.putAll(actual);
+    String[] expectedKeys = { "color", "name", "NAME" };
+    try {
+      maps.assertContainsOnlyKeys(info, underTest, expectedKeys);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainOnlyKeys(underTest, expectedKeys, newHashSet("NAME"), emptySet()));
+      return;
+    }
+    shouldHaveThrown(AssertionError.class);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_support_null_keys_and_null_key_is_expected() {
+    AssertionInfo info = someInfo();
+    Map<String, String> underTest = new TreeMap<>(actual);
+    String[] expectedKeys = { "color", null };
+    try {
+      maps.assertContainsOnlyKeys(info, underTest, expectedKeys);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainOnlyKeys(underTest, expectedKeys, newHashSet(null),
+                                                           newHashSet("name")));
+      return;
+    }
+    shouldHaveThrown(AssertionError.class);
+  }
+
+  @Test
+  public void should_compare_keys_by_identity_if_actual_is_an_identity_map() {
+    AssertionInfo info = someInfo();
+    String name = "name";
+    String otherName = new String(name);
+    Map<String, String> underTest = new IdentityHashMap<>();
+    underTest.put(name, "Yoda");
+    String[] expectedKeys = { otherName };
+    try {
+      maps.assertContainsOnlyKeys(info, underTest, expectedKeys);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainOnlyKeys(underTest, expectedKeys, newHashSet(otherName),
+                                                           newHashSet(name)));
+      return;
+    }
+    shouldHaveThrown(AssertionError.class);
+  }
+
   private static HashSet<String> newHashSet(String entry) {
     HashSet<String> notExpected = new HashSet<>();
     notExpected.add(entry);
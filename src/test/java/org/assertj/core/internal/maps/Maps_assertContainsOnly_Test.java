@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.maps;
 
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.shouldHaveThrown;
@@ -26,6 +27,7 @@ import static org.mockito.Mockito.verify;
 
 import java.util.HashSet;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.data.MapEntry;
@@ -140,6 +142,14 @@ public class Maps_assertContainsOnly_Test extends MapsBaseTest {
     shouldHaveThrown(AssertionError.class);
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void should_pass_if_actual_contains_only_expected_entries_according_to_actual_key_comparator() {
+    Map<String, String> underTest = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+    underTest.putAll(actual);
+    maps.assertContainsOnly(someInfo(), underTest, entry("COLOR", "green"), entry("Name", "Yoda"));
+  }
+
   private static <K, V> HashSet<MapEntry<K, V>> newHashSet(MapEntry<K, V> entry) {
     HashSet<MapEntry<K, V>> notExpected = new HashSet<>();
     notExpected.add(entry);
@@ -22,6 +22,8 @@ import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.mockito.Mockito.verify;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.MapsBaseTest;
@@ -85,4 +87,39 @@ public class Maps_assertContainsValues_Test extends MapsBaseTest {
     }
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
+
+  @Test
+  public void should_pass_if_actual_contains_many_given_values() {
+    maps.assertContainsValues(someInfo(), actual, "Yoda", "Jedi", "green", null, "Yoda", "Jedi", "green", null, "Yoda",
+                              "Jedi");
+  }
+
+  @Test
+  public void should_fail_with_same_message_if_actual_does_not_contain_many_given_values() {
+    AssertionInfo info = someInfo();
+    String[] values = { "Yoda", "veryOld", "Jedi", "green", null, "veryOld2", "Yoda", "Jedi", "green", "veryOld" };
+    try {
+      maps.assertContainsValues(info, actual, values);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainValues(actual, newLinkedHashSet("veryOld", "veryOld2")));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_compare_many_given_values_by_identity_if_actual_is_an_identity_map() {
+    AssertionInfo info = someInfo();
+    String yoda = "Yoda";
+    String otherYoda = new String(yoda);
+    Map<String, String> identityMap = new IdentityHashMap<>(actual);
+    String[] values = { yoda, "Jedi", "green", null, yoda, "Jedi", "green", null, otherYoda };
+    try {
+      maps.assertContainsValues(info, identityMap, values);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainValues(identityMap, newLinkedHashSet(otherYoda)));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
 }
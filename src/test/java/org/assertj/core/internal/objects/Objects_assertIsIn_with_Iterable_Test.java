@@ -13,13 +13,18 @@
 package org.assertj.core.internal.objects;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.error.ShouldBeIn.shouldBeIn;
 import static org.assertj.core.internal.ErrorMessages.iterableIsNull;
 import static org.assertj.core.test.TestData.someInfo;
 import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Sets.newHashSet;
 import static org.mockito.Mockito.verify;
 
+import java.util.Set;
+
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.ErrorMessages;
 import org.assertj.core.internal.Objects;
@@ -80,6 +85,29 @@ public class Objects_assertIsIn_with_Iterable_Test extends ObjectsBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_actual_is_in_Set() {
+    objects.assertIsIn(someInfo(), "Yoda", newHashSet(values));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_in_Set() {
+    AssertionInfo info = someInfo();
+    Set<String> set = newHashSet(values);
+    try {
+      objects.assertIsIn(info, "Luke", set);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeIn("Luke", set));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_pass_if_actual_array_is_in_Set_of_arrays() {
+    objects.assertIsIn(someInfo(), array("Yoda", "Leia"), newHashSet(singletonList(array("Yoda", "Leia"))));
+  }
+
   @Test
   public void should_pass_if_actual_is_in_Iterable_according_to_custom_comparison_strategy() {
     objectsWithCustomComparisonStrategy.assertIsIn(someInfo(), "YODA", values);
@@ -12,6 +12,9 @@
  */
 package org.assertj.core.navigation;
 
+import java.util.LinkedList;
+import java.util.List;
+
 import org.assertj.core.api.ClassBasedNavigableIterableAssert;
 import org.assertj.core.test.IllegalVehicleAssert;
 import org.assertj.core.test.Vehicle;
@@ -20,6 +23,7 @@ import org.assertj.core.test.VehicleFactory;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
 
 public class ClassBasedNavigableIterable_Test extends BaseNavigableIterableAssert_Test {
 
@@ -35,4 +39,38 @@ public class ClassBasedNavigableIterable_Test extends BaseNavigableIterableAsser
       .toAssert(new VehicleFactory.Car("car"), "unused");
   }
 
+  @Test
+  public void should_navigate_elements_of_an_iterable_which_is_not_a_collection() {
+    Iterable<Vehicle> vehicles = expectedVehicles::iterator;
+    List<Vehicle> vehicleList = newArrayList(expectedVehicles);
+    assertThat(vehicles, VehicleAssert.class).element(1).isEqualTo(vehicleList.get(1));
+    assertThat(vehicles, VehicleAssert.class).element(2).isEqualTo(vehicleList.get(2));
+    assertThat(vehicles, VehicleAssert.class).last().isEqualTo(vehicleList.get(2));
+  }
+
+  @Test
+  public void should_fail_navigating_out_of_bound_index_of_an_iterable_which_is_not_a_collection() {
+    Iterable<Vehicle> vehicles = expectedVehicles::iterator;
+    thrown.expectAssertionErrorWithMessageContaining("check index validity", "[0, 2]");
+    assertThat(vehicles, VehicleAssert.class).element(3);
+  }
+
+  @Test
+  public void should_navigate_elements_of_a_sequential_list() {
+    List<Vehicle> vehicles = new LinkedList<>(newArrayList(expectedVehicles));
+    assertThat(vehicles, VehicleAssert.class).element(1).isEqualTo(vehicles.get(1));
+    assertThat(vehicles, VehicleAssert.class).last().isEqualTo(vehicles.get(2));
+  }
+
+  @Test
+  public void should_build_a_new_assert_for_each_navigated_element() {
+    List<Vehicle> vehicles = newArrayList(expectedVehicles);
+    ClassBasedNavigableIterableAssert<?, Iterable<Vehicle>, Vehicle, VehicleAssert> vehiclesAssert = assertThat(expectedVehicles,
+                                                                                                             VehicleAssert.class);
+    VehicleAssert firstVehicleAssert = vehiclesAssert.first();
+    assertThat(vehiclesAssert.first()).isNotSameAs(firstVehicleAssert);
+    firstVehicleAssert.isEqualTo(vehicles.get(0));
+    vehiclesAssert.last().isEqualTo(vehicles.get(2));
+  }
+
 }
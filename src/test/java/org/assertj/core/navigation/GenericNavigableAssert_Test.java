@@ -77,6 +77,18 @@ public abstract class GenericNavigableAssert_Test<T extends Iterable<Vehicle>, A
     vehiclesAssert.element(10).isEqualTo(getVehicle(0));
   }
 
+  @Test
+  public void element_navigating_failing_test_index_equal_to_size() {
+    thrown.expectAssertionErrorWithMessageContaining("VehicleFactory.vehicles check index validity", "[0, 2]");
+    vehiclesAssert.element(3);
+  }
+
+  @Test
+  public void element_navigating_failing_test_negative_index() {
+    thrown.expectAssertionErrorWithMessageContaining("VehicleFactory.vehicles check index validity", "[0, 2]");
+    vehiclesAssert.element(-1);
+  }
+
   @Test
   public void element_navigating_failing_test_actual_not_equal_to_given() {
     thrown.expectAssertionErrorWithMessageContaining("VehicleFactory.vehicles element at index 1");
@@ -23,26 +23,58 @@ public class NumberGrouping_Test {
 
   @Test
   public void should_group_words_in_byte_hex_value() {
-    String hexLiteral = NumberGrouping.toHexLiteral("CA");
-    assertThat(hexLiteral).isEqualTo("CA");
+    StringBuilder buffer = new StringBuilder();
+    NumberGrouping.appendHexLiteral(buffer, 0xCA, 8);
+    assertThat(buffer.toString()).isEqualTo("CA");
   }
 
   @Test
   public void should_group_words_in_hex_value() {
-    String hexLiteral = NumberGrouping.toHexLiteral("01234567");
-    assertThat(hexLiteral).isEqualTo("0123_4567");
+    StringBuilder buffer = new StringBuilder();
+    NumberGrouping.appendHexLiteral(buffer, 0x01234567, 32);
+    assertThat(buffer.toString()).isEqualTo("0123_4567");
   }
 
   @Test
   public void should_group_bytes_in_integer() {
-    String literals = NumberGrouping.toBinaryLiteral("00000000000000000000000000000011");
-    assertThat(literals).isEqualTo("00000000_00000000_00000000_00000011");
+    StringBuilder buffer = new StringBuilder();
+    NumberGrouping.appendBinaryLiteral(buffer, 3, 32);
+    assertThat(buffer.toString()).isEqualTo("00000000_00000000_00000000_00000011");
   }
 
   @Test
   public void should_group_bytes_in_short() {
-    String literals = NumberGrouping.toBinaryLiteral("1000000000000011");
-    assertThat(literals).isEqualTo("10000000_00000011");
+    StringBuilder buffer = new StringBuilder();
+    NumberGrouping.appendBinaryLiteral(buffer, (short) 0x8003, 16);
+    assertThat(buffer.toString()).isEqualTo("10000000_00000011");
+  }
+
+  @Test
+  public void should_append_grouped_hex_digits() {
+    StringBuilder buffer = new StringBuilder();
+    NumberGrouping.appendHexLiteral(buffer, 0xCA, 8);
+    buffer.append(' ');
+    NumberGrouping.appendHexLiteral(buffer, 0x1234, 16);
+    buffer.append(' ');
+    NumberGrouping.appendHexLiteral(buffer, -2L, 64);
+    assertThat(buffer.toString()).isEqualTo("CA 1234 FFFF_FFFF_FFFF_FFFE");
+  }
+
+  @Test
+  public void should_append_binary_digits_grouped_by_byte() {
+    StringBuilder buffer = new StringBuilder();
+    NumberGrouping.appendBinaryLiteral(buffer, 3, 8);
+    buffer.append(' ');
+    NumberGrouping.appendBinaryLiteral(buffer, (short) 0x8003, 16);
+    assertThat(buffer.toString()).isEqualTo("00000011 10000000_00000011");
+  }
+
+  @Test
+  public void should_append_lower_case_hex_digits_of_char() {
+    StringBuilder buffer = new StringBuilder();
+    NumberGrouping.appendLowerCaseHex(buffer, '\u00e9');
+    NumberGrouping.appendLowerCaseHex(buffer, '\uABCD');
+    assertThat(buffer.toString()).isEqualTo("00e9abcd");
   }
 
 }
@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static java.lang.String.format;
+import static java.util.Collections.nCopies;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Maps.newHashMap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StandardRepresentation#appendTo(StringBuilder, Object, int)}.
+ */
+public class StandardRepresentation_appendTo_Test extends AbstractBaseRepresentationTest {
+
+  @Test
+  public void should_append_nested_values_like_toStringOf() {
+    // GIVEN
+    Map<String, List<Tuple>> map = newHashMap("key", newArrayList(tuple(1, "a"), tuple(2, new int[] { 3 })));
+    StringBuilder buffer = new StringBuilder("prefix ");
+    // WHEN
+    boolean fitsInBudget = STANDARD_REPRESENTATION.appendTo(buffer, map, Integer.MAX_VALUE);
+    // THEN
+    assertThat(fitsInBudget).isTrue();
+    assertThat(buffer.toString()).isEqualTo("prefix " + STANDARD_REPRESENTATION.toStringOf(map))
+                                 .isEqualTo("prefix {\"key\"=[(1, \"a\"), (2, [3])]}");
+  }
+
+  @Test
+  public void should_append_elements_on_new_lines_when_they_do_not_fit_on_a_single_line() {
+    // GIVEN
+    StandardRepresentation.setMaxLengthForSingleLineDescription(15);
+    List<Object> list = newArrayList("1234567890", new Object[] { "12345", "67890" });
+    StringBuilder buffer = new StringBuilder();
+    // WHEN
+    STANDARD_REPRESENTATION.appendTo(buffer, list);
+    // THEN
+    assertThat(buffer.toString()).isEqualTo(STANDARD_REPRESENTATION.toStringOf(list))
+                                 .isEqualTo(format("[\"1234567890\",%n" +
+                                                   "    [\"12345\",%n" +
+                                                   "    \"67890\"]]"));
+  }
+
+  @Test
+  public void should_report_representation_exceeding_budget() {
+    // GIVEN
+    StringBuilder buffer = new StringBuilder();
+    // WHEN
+    boolean fitsInBudget = STANDARD_REPRESENTATION.appendTo(buffer, newArrayList(1, 2, 3), 5);
+    // THEN
+    assertThat(fitsInBudget).isFalse();
+  }
+
+  @Test
+  public void should_append_toStringOf_of_subclasses() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      public String toStringOf(Object object) {
+        return object instanceof List ? "a list" : super.toStringOf(object);
+      }
+    };
+    StringBuilder buffer = new StringBuilder();
+    // WHEN
+    representation.appendTo(buffer, new Object[] { newArrayList(1), 2 });
+    // THEN
+    assertThat(buffer.toString()).isEqualTo("[a list, 2]");
+  }
+
+  @Test
+  public void should_append_toStringOf_by_default() {
+    // GIVEN
+    Representation representation = new Representation() {
+      @Override
+      public String toStringOf(Object object) {
+        return "<" + object + ">";
+      }
+
+      @Override
+      public String unambiguousToStringOf(Object object) {
+        return toStringOf(object);
+      }
+    };
+    StringBuilder buffer = new StringBuilder();
+    // WHEN
+    boolean fitsInBudget = representation.appendTo(buffer, "abc", 4);
+    // THEN
+    assertThat(fitsInBudget).isFalse();
+    assertThat(buffer.toString()).isEqualTo("<abc>");
+  }
+
+  @Test
+  public void should_stop_formatting_huge_collection_once_budget_is_exceeded() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(Integer.MAX_VALUE);
+    AtomicInteger formattedElements = new AtomicInteger();
+    Object element = new Object() {
+      @Override
+      public String toString() {
+        formattedElements.incrementAndGet();
+        return "element";
+      }
+    };
+    List<Object> hugeList = nCopies(10_000_000, element);
+    StringBuilder buffer = new StringBuilder();
+    // WHEN
+    boolean fitsInBudget = STANDARD_REPRESENTATION.appendTo(buffer, new AtomicReference<>(hugeList), 100);
+    // THEN
+    assertThat(fitsInBudget).isFalse();
+    assertThat(buffer.length()).isLessThanOrEqualTo(100 + "element".length() + 1);
+    assertThat(buffer.toString()).startsWith(format("AtomicReference[[element,%n    element"));
+    // the single line attempt is aborted at the single line max length, then the multi line one at the budget
+    assertThat(formattedElements.get()).isLessThan(30);
+  }
+
+  @Test
+  public void should_only_append_the_chars_of_a_huge_string_within_budget() {
+    // GIVEN
+    String hugeString = String.join("", nCopies(1_000_000, "a"));
+    StringBuilder buffer = new StringBuilder();
+    // WHEN
+    boolean fitsInBudget = STANDARD_REPRESENTATION.appendTo(buffer, hugeString, 10);
+    // THEN
+    assertThat(fitsInBudget).isFalse();
+    assertThat(buffer.toString()).isEqualTo("\"aaaaaaaaaa");
+  }
+
+  @Test
+  public void should_only_append_the_chars_within_budget_by_default() {
+    // GIVEN
+    Representation representation = new Representation() {
+      @Override
+      public String toStringOf(Object object) {
+        return String.valueOf(object);
+      }
+
+      @Override
+      public String unambiguousToStringOf(Object object) {
+        return toStringOf(object);
+      }
+    };
+    StringBuilder buffer = new StringBuilder();
+    // WHEN
+    boolean fitsInBudget = representation.appendTo(buffer, nCopies(1_000, 1), 10);
+    // THEN
+    assertThat(fitsInBudget).isFalse();
+    assertThat(buffer.toString()).isEqualTo("[1, 1, 1, 1");
+  }
+}
@@ -55,6 +55,50 @@ public class StandardRepresentation_array_format_Test extends AbstractBaseRepres
     assertThat(new HexadecimalRepresentation().formatArray(array)).isEqualTo("[0x03, 0x08]");
   }
 
+  @Test
+  public void should_format_primitive_arrays_in_hex_representation() {
+    HexadecimalRepresentation hex = new HexadecimalRepresentation();
+    assertThat(hex.formatArray(new byte[] { -2, 127 })).isEqualTo("[0xFE, 0x7F]");
+    assertThat(hex.formatArray(new short[] { -2, 3 })).isEqualTo("[0xFFFE, 0x0003]");
+    assertThat(hex.formatArray(new int[] { -2, 3 })).isEqualTo("[0xFFFF_FFFE, 0x0000_0003]");
+    assertThat(hex.formatArray(new long[] { Long.MIN_VALUE })).isEqualTo("[0x8000_0000_0000_0000]");
+    assertThat(hex.formatArray(new float[] { 4.3f, -2f })).isEqualTo("[0x4089_999A, 0xC000_0000]");
+    assertThat(hex.formatArray(new double[] { 1d })).isEqualTo("[0x3FF0_0000_0000_0000]");
+    assertThat(hex.formatArray(new char[] { 'a', '\u00e9' })).isEqualTo("['0x0061', '0x00E9']");
+    assertThat(hex.formatArray(new boolean[] { true })).isEqualTo("[true]");
+  }
+
+  @Test
+  public void should_format_primitive_arrays_in_binary_representation() {
+    BinaryRepresentation binary = new BinaryRepresentation();
+    assertThat(binary.formatArray(new byte[] { -2, 3 })).isEqualTo("[0b11111110, 0b00000011]");
+    assertThat(binary.formatArray(new short[] { -2 })).isEqualTo("[0b11111111_11111110]");
+    assertThat(binary.formatArray(new int[] { 3 })).isEqualTo("[0b00000000_00000000_00000000_00000011]");
+    assertThat(binary.formatArray(new long[] { -1L })).isEqualTo("[0b11111111_11111111_11111111_11111111_"
+                                                                 + "11111111_11111111_11111111_11111111]");
+    assertThat(binary.formatArray(new float[] { -2f })).isEqualTo("[0b11000000_00000000_00000000_00000000]");
+    assertThat(binary.formatArray(new double[] { 2d })).isEqualTo("[0b01000000_00000000_00000000_00000000_"
+                                                                  + "00000000_00000000_00000000_00000000]");
+    assertThat(binary.formatArray(new char[] { 'a' })).isEqualTo("['0b00000000_01100001']");
+  }
+
+  @Test
+  public void should_format_char_array_in_unicode_representation() {
+    Object array = new char[] { 'a', '\u00e9', '\uFFFF' };
+    assertThat(new UnicodeRepresentation().formatArray(array)).isEqualTo("[a, \\u00e9, \\uffff]");
+  }
+
+  @Test
+  public void should_format_primitive_array_elements_with_subclass_representation() {
+    HexadecimalRepresentation representation = new HexadecimalRepresentation() {
+      @Override
+      protected String toStringOf(Byte b) {
+        return "byte " + b;
+      }
+    };
+    assertThat(representation.formatArray(new byte[] { 1, 2 })).isEqualTo("[byte 1, byte 2]");
+  }
+
   @Test
   public void should_format_char_array() {
     Object array = new char[] { 'a', 'b' };
@@ -51,6 +51,21 @@ public class StandardRepresentation_custom_formatter_Test {
     assertThat(UNICODE_REPRESENTATION.toStringOf(longNumber)).isEqualTo("$123$");
   }
 
+  @Test
+  public void should_use_registered_formatter_for_primitive_array_elements() {
+    // GIVEN
+    Object ints = new int[] { 1, 2 };
+    Object chars = new char[] { 'a' };
+    // WHEN
+    Assertions.registerFormatterForType(Integer.class, value -> "$" + value + "$");
+    Assertions.registerFormatterForType(Character.class, value -> "#" + value + "#");
+    // THEN
+    assertThat(STANDARD_REPRESENTATION.toStringOf(ints)).isEqualTo("[$1$, $2$]");
+    assertThat(HEXA_REPRESENTATION.toStringOf(ints)).isEqualTo("[$1$, $2$]");
+    assertThat(BINARY_REPRESENTATION.toStringOf(ints)).isEqualTo("[$1$, $2$]");
+    assertThat(UNICODE_REPRESENTATION.toStringOf(chars)).isEqualTo("[#a#]");
+  }
+
   @Test
   public void should_remove_all_registered_formatters_after_resetting_to_default() {
     // GIVEN
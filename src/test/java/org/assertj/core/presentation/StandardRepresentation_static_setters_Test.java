@@ -35,4 +35,16 @@ public class StandardRepresentation_static_setters_Test extends AbstractBaseRepr
     thrown.expectIllegalArgumentException("maxLengthForSingleLineDescription must be > 0 but was 0");
     StandardRepresentation.setMaxLengthForSingleLineDescription(0);
   }
+
+  @Test
+  public void should_fail_on_invalid_maxLengthForPrintedValue() {
+    thrown.expectIllegalArgumentException("maxLengthForPrintedValue must be >= 1, but was 0");
+    StandardRepresentation.setMaxLengthForPrintedValue(0);
+  }
+
+  @Test
+  public void should_fail_on_invalid_maxLengthForErrorMessage() {
+    thrown.expectIllegalArgumentException("maxLengthForErrorMessage must be >= 1, but was 0");
+    StandardRepresentation.setMaxLengthForErrorMessage(0);
+  }
 }
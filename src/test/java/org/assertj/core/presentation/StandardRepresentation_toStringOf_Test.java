@@ -307,6 +307,20 @@ public class StandardRepresentation_toStringOf_Test extends AbstractBaseRepresen
     assertThat(STANDARD_REPRESENTATION.toStringOf(method)).isEqualTo(method.toGenericString());
   }
 
+  @Test
+  public void should_cut_String_exceeding_max_length_for_printed_value() {
+    StandardRepresentation.setMaxLengthForPrintedValue(10);
+    assertThat(toStringOf("abcdefgh")).isEqualTo("\"abcdefgh\"");
+    assertThat(toStringOf("abcdefghijklmnopqrstuvwxyz")).isEqualTo("\"abcdefghi...(18 chars omitted)");
+  }
+
+  @Test
+  public void should_cut_each_element_exceeding_max_length_for_printed_value() {
+    StandardRepresentation.setMaxLengthForPrintedValue(5);
+    List<Object> list = newArrayList("abcdefgh", new StringBuilder("123456789"), 1);
+    assertThat(toStringOf(list)).isEqualTo("[\"abcd...(5 chars omitted), 12345...(4 chars omitted), 1]");
+  }
+
   private String toStringOf(Object o) {
     return STANDARD_REPRESENTATION.toStringOf(o);
   }
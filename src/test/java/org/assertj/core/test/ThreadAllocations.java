@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.test;
+
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated by the current thread with {@code com.sun.management.ThreadMXBean}, tests using it are
+ * skipped on JVMs not supporting thread allocation counters.
+ */
+public final class ThreadAllocations {
+
+  private static final int WARMUP_CALLS = 200_000;
+  private static final int MEASURED_CALLS = 100_000;
+
+  /**
+   * Returns the average number of bytes allocated by the current thread when running the given code once, the code is
+   * run enough times beforehand to be compiled by the JIT (allocations removed by escape analysis are not counted).
+   *
+   * @param code the code to measure.
+   * @return the average number of bytes allocated per call.
+   */
+  public static long allocatedBytesPerCall(Runnable code) {
+    com.sun.management.ThreadMXBean threadMXBean = threadMXBean();
+    long threadId = Thread.currentThread().getId();
+    for (int i = 0; i < WARMUP_CALLS; i++) {
+      code.run();
+    }
+    // reading the counter allocates a little, measuring an empty loop gives that overhead
+    long overhead = allocatedBytes(threadMXBean, threadId, () -> {});
+    return Math.max(0, allocatedBytes(threadMXBean, threadId, code) - overhead) / MEASURED_CALLS;
+  }
+
+  private static long allocatedBytes(com.sun.management.ThreadMXBean threadMXBean, long threadId, Runnable code) {
+    long before = threadMXBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < MEASURED_CALLS; i++) {
+      code.run();
+    }
+    return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+  }
+
+  private static com.sun.management.ThreadMXBean threadMXBean() {
+    java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    assumeTrue("thread allocation counters are not supported",
+               threadMXBean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean allocationCounter = (com.sun.management.ThreadMXBean) threadMXBean;
+    assumeTrue("thread allocation counters are not supported", allocationCounter.isThreadAllocatedMemorySupported());
+    if (!allocationCounter.isThreadAllocatedMemoryEnabled()) allocationCounter.setThreadAllocatedMemoryEnabled(true);
+    return allocationCounter;
+  }
+
+  private ThreadAllocations() {}
+}
@@ -84,4 +84,36 @@ public class Objects_areEqual_Test {
     assertThat(Objects.areEqual(a1, "")).isFalse();
     assertThat(Objects.areEqual("", a1)).isFalse();
   }
+
+  @Test
+  public void should_compare_arrays_of_each_primitive_type_by_content() {
+    assertThat(Objects.areEqual(new long[] { 1L, 2L }, new long[] { 1L, 2L })).isTrue();
+    assertThat(Objects.areEqual(new long[] { 1L, 2L }, new long[] { 1L, 3L })).isFalse();
+    assertThat(Objects.areEqual(new double[] { 1.0, Double.NaN }, new double[] { 1.0, Double.NaN })).isTrue();
+    assertThat(Objects.areEqual(new double[] { 0.0 }, new double[] { -0.0 })).isFalse();
+    assertThat(Objects.areEqual(new float[] { 1.0f, Float.NaN }, new float[] { 1.0f, Float.NaN })).isTrue();
+    assertThat(Objects.areEqual(new byte[] { 1, 2 }, new byte[] { 1, 2 })).isTrue();
+    assertThat(Objects.areEqual(new byte[] { 1, 2 }, new byte[] { 1 })).isFalse();
+    assertThat(Objects.areEqual(new short[] { 1, 2 }, new short[] { 1, 2 })).isTrue();
+    assertThat(Objects.areEqual(new char[] { 'a', 'b' }, new char[] { 'a', 'b' })).isTrue();
+    assertThat(Objects.areEqual(new boolean[] { true, false }, new boolean[] { true, true })).isFalse();
+  }
+
+  @Test
+  public void should_compare_primitive_and_wrapper_arrays_by_content() {
+    assertThat(Objects.areEqual(new int[] { 6, 8 }, new Integer[] { 6, 8 })).isTrue();
+    assertThat(Objects.areEqual(new Integer[] { 6, 8 }, new int[] { 6, 8 })).isTrue();
+    assertThat(Objects.areEqual(new int[] { 6, 8 }, new long[] { 6, 8 })).isFalse();
+  }
+
+  @Test
+  public void should_compare_nested_arrays_by_content() {
+    Object[] a1 = { "Luke", new int[] { 1, 2 }, new String[] { "Yoda" }, null };
+    Object[] a2 = { "Luke", new int[] { 1, 2 }, new String[] { "Yoda" }, null };
+    Object[] a3 = { "Luke", new int[] { 1, 2 }, new String[] { "Leia" }, null };
+    assertThat(Objects.areEqual(a1, a2)).isTrue();
+    assertThat(Objects.areEqual(a1, a3)).isFalse();
+    assertThat(Objects.areEqual(new Object[] { null }, new Object[] { "Luke" })).isFalse();
+    assertThat(Objects.areEqual(new String[] { "Luke" }, new Object[] { "Luke" })).isTrue();
+  }
 }
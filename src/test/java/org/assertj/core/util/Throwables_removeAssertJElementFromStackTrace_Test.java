@@ -13,6 +13,8 @@
 package org.assertj.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.util.Arrays.array;
 
 import org.junit.Test;
 
@@ -33,6 +35,54 @@ public class Throwables_removeAssertJElementFromStackTrace_Test {
     }
   }
 
+  @Test
+  public void should_remove_constructor_element_preceding_assertj_constructor_invoker() {
+    Throwable throwable = new Throwable();
+    throwable.setStackTrace(array(element("sun.reflect.NativeConstructorAccessorImpl", "newInstance"),
+                                  element("java.lang.reflect.Constructor", "newInstance"),
+                                  element("org.assertj.core.error.ConstructorInvoker", "newInstance"),
+                                  element("org.assertj.core.error.ShouldBeEqual", "newAssertionError"),
+                                  element("java.lang.reflect.Constructor", "newInstance"),
+                                  element("examples.StackTraceFilterExample", "main")));
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    assertThat(throwable.getStackTrace()).containsExactly(element("sun.reflect.NativeConstructorAccessorImpl",
+                                                                  "newInstance"),
+                                                          element("java.lang.reflect.Constructor", "newInstance"),
+                                                          element("examples.StackTraceFilterExample", "main"));
+  }
+
+  @Test
+  public void should_not_change_stack_trace_already_filtered() {
+    Throwable throwable = new Throwable();
+    StackTraceElement[] stackTrace = array(element("examples.Example", "first"), element("examples.Example", "second"));
+    throwable.setStackTrace(stackTrace);
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    assertThat(throwable.getStackTrace()).containsExactly(stackTrace);
+  }
+
+  @Test
+  public void should_truncate_filtered_stack_trace_to_max_depth() {
+    Throwable throwable = new Throwable();
+    throwable.setStackTrace(array(element("org.assertj.core.internal.Failures", "failure"),
+                                  element("examples.Example", "first"),
+                                  element("examples.Example", "second"),
+                                  element("examples.Example", "third")));
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable, 2);
+    assertThat(throwable.getStackTrace()).containsExactly(element("examples.Example", "first"),
+                                                          element("examples.Example", "second"));
+  }
+
+  @Test
+  public void should_fail_if_max_depth_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> Throwables.removeAssertJRelatedElementsFromStackTrace(new Throwable(),
+                                                                                                                -1));
+  }
+
+  private static StackTraceElement element(String className, String methodName) {
+    return new StackTraceElement(className, methodName, null, -1);
+  }
+
   private static boolean hasStackTraceElementContainingAssertJClass(AssertJThrowable throwable) {
     StackTraceElement[] stackTrace = throwable.getStackTrace();
     for (StackTraceElement stackTraceElement : stackTrace) {
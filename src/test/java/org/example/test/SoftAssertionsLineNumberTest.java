@@ -17,10 +17,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.assertj.core.api.SoftAssertionError;
 import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.description.Description;
 import org.junit.Test;
 
 /**
@@ -44,13 +46,13 @@ public class SoftAssertionsLineNumberTest {
                                                  + " <1>%n"
                                                  + "to be less than:%n"
                                                  + " <0> %n"
-                                                 + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions(SoftAssertionsLineNumberTest.java:37)%n"
+                                                 + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions(SoftAssertionsLineNumberTest.java:39)%n"
                                                  + "2) %n"
                                                  + "Expecting:%n"
                                                  + " <1>%n"
                                                  + "to be less than:%n"
                                                  + " <1> %n"
-                                                 + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions(SoftAssertionsLineNumberTest.java:38)"));
+                                                 + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions(SoftAssertionsLineNumberTest.java:40)"));
     }
   }
 
@@ -71,17 +73,57 @@ public class SoftAssertionsLineNumberTest {
                                                  + "Expecting Optional to contain:%n"
                                                  + "  <\"Foo\">%n"
                                                  + "but was empty.%n"
-                                                 + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_even_if_it_came_from_nested_calls(SoftAssertionsLineNumberTest.java:61)%n"
+                                                 + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_even_if_it_came_from_nested_calls(SoftAssertionsLineNumberTest.java:63)%n"
                                                  + "2) %n"
                                                  + "Expecting actual not to be null%n"
-                                                 + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_even_if_it_came_from_nested_calls(SoftAssertionsLineNumberTest.java:63)%n"
+                                                 + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_even_if_it_came_from_nested_calls(SoftAssertionsLineNumberTest.java:65)%n"
                                                  + "3) %n"
                                                  + "Expecting all elements of:%n"
                                                  + "  <[\"a\", \"b\", \"C\"]>%n"
                                                  + "to match given predicate but this element did not:%n"
                                                  + "  <\"C\">%n"
-                                                 + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_even_if_it_came_from_nested_calls(SoftAssertionsLineNumberTest.java:66)"));
+                                                 + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_even_if_it_came_from_nested_calls(SoftAssertionsLineNumberTest.java:68)"));
     }
   }
 
+  @Test
+  public void should_add_line_number_only_once_when_errors_are_read_several_times() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(1).isLessThan(0);
+    softly.fail("failure");
+    softly.errorsCollected();
+    assertThat(softly.errorsCollected()).extracting(Throwable::getMessage)
+                                        .containsExactly(format("%n"
+                                                                + "Expecting:%n"
+                                                                + " <1>%n"
+                                                                + "to be less than:%n"
+                                                                + " <0> %n"
+                                                                + "at SoftAssertionsLineNumberTest.should_add_line_number_only_once_when_errors_are_read_several_times(SoftAssertionsLineNumberTest.java:92)"),
+                                                         format("failure%n"
+                                                                + "at SoftAssertionsLineNumberTest.should_add_line_number_only_once_when_errors_are_read_several_times(SoftAssertionsLineNumberTest.java:93)"));
+  }
+
+  @Test
+  public void should_not_build_error_messages_until_they_are_reported() {
+    AtomicInteger descriptionValueCalls = new AtomicInteger();
+    Description description = new Description() {
+      @Override
+      public String value() {
+        descriptionValueCalls.incrementAndGet();
+        return "one";
+      }
+    };
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(1).as(description).isLessThan(0);
+    assertThat(descriptionValueCalls).hasValue(0);
+    assertThat(softly.errorsCollected()).extracting(Throwable::getMessage)
+                                        .containsExactly(format("[one] %n"
+                                                                + "Expecting:%n"
+                                                                + " <1>%n"
+                                                                + "to be less than:%n"
+                                                                + " <0> %n"
+                                                                + "at SoftAssertionsLineNumberTest.should_not_build_error_messages_until_they_are_reported(SoftAssertionsLineNumberTest.java:117)"));
+    assertThat(descriptionValueCalls).hasValue(1);
+  }
+
 }